@@ -0,0 +1,172 @@
+package com.synclink.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.websocket.ContainerProvider;
+import jakarta.websocket.WebSocketContainer;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Clientes STOMP assinando /topic/pedidos, /topic/cozinha e /topic/mesas durante o turno.
+ * Antes de cada chamada REST que muda o status de um pedido ou mesa, a simulação marca o estado
+ * esperado em {@link #aguardar}; a chegada da notificação correspondente em cada assinante
+ * gera uma amostra de latência de push (chamada REST -> frame no cliente).
+ */
+class AssinantesWebSocket implements AutoCloseable {
+
+    static final String PEDIDO = "pedido";
+    static final String MESA = "mesa";
+
+    private static final List<String> TOPICOS = List.of("/topic/pedidos", "/topic/cozinha", "/topic/mesas");
+
+    private final ObjectMapper objectMapper;
+    private final Latencias latencias;
+    private final WebSocketStompClient client;
+    private final List<StompSession> sessoes = new ArrayList<>();
+
+    // entidade:id:status -> instante (nanoTime) da chamada REST que provocou a mudança
+    private final Map<String, Long> enviados = new ConcurrentHashMap<>();
+    private final Set<String> entregues = ConcurrentHashMap.newKeySet();
+    private final Map<String, LongAdder> esperadosPorEntidade = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> entreguesPorEntidade = new ConcurrentHashMap<>();
+    private final LongAdder frames = new LongAdder();
+
+    AssinantesWebSocket(ObjectMapper objectMapper, Latencias latencias) {
+        this.objectMapper = objectMapper;
+        this.latencias = latencias;
+
+        // Frames LOTE podem passar do buffer padrão do cliente (8 KB)
+        WebSocketContainer container = ContainerProvider.getWebSocketContainer();
+        container.setDefaultMaxTextMessageBufferSize(512 * 1024);
+        this.client = new WebSocketStompClient(new StandardWebSocketClient(container));
+        this.client.setMessageConverter(new ByteArrayMessageConverter());
+        this.client.setInboundMessageSizeLimit(512 * 1024);
+    }
+
+    void conectar(String wsUrl, String token, int quantidade) throws Exception {
+        StompHeaders connectHeaders = new StompHeaders();
+        connectHeaders.add("Authorization", "Bearer " + token);
+
+        for (int i = 0; i < quantidade; i++) {
+            StompSession sessao = client
+                    .connectAsync(wsUrl, new WebSocketHttpHeaders(), connectHeaders, new StompSessionHandlerAdapter() {
+                    })
+                    .get(10, TimeUnit.SECONDS);
+            for (String topico : TOPICOS) {
+                sessao.subscribe(topico, new Receptor());
+            }
+            sessoes.add(sessao);
+        }
+    }
+
+    // Mesas repetem os mesmos estados a cada ciclo: a marca nova substitui a anterior
+    void aguardar(String entidade, long id, String status) {
+        String chave = chave(entidade, id, status);
+        entregues.remove(chave);
+        enviados.put(chave, System.nanoTime());
+        contador(esperadosPorEntidade, entidade).increment();
+    }
+
+    // Notificações esperadas e quantas chegaram a pelo menos um assinante, por entidade
+    Map<String, Map<String, Long>> entregas() {
+        Map<String, Map<String, Long>> entregas = new TreeMap<>();
+        esperadosPorEntidade.forEach((entidade, esperados) -> entregas.put(entidade, Map.of(
+                "esperados", esperados.sum(),
+                "entregues", contador(entreguesPorEntidade, entidade).sum())));
+        return entregas;
+    }
+
+    long framesRecebidos() {
+        return frames.sum();
+    }
+
+    @Override
+    public void close() {
+        sessoes.forEach(sessao -> {
+            if (sessao.isConnected()) {
+                sessao.disconnect();
+            }
+        });
+        client.stop();
+    }
+
+    // ============================================================
+    // 🔹 RECEBIMENTO
+    // ============================================================
+
+    private final class Receptor implements StompFrameHandler {
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return byte[].class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            long recebidoEm = System.nanoTime();
+            frames.increment();
+            try {
+                JsonNode mensagem = objectMapper.readTree((byte[]) payload);
+                if ("LOTE".equals(mensagem.path("tipo").asText())) {
+                    mensagem.path("dados").forEach(item -> processar(item, recebidoEm));
+                } else {
+                    processar(mensagem, recebidoEm);
+                }
+            } catch (IOException e) {
+                latencias.registrarErro("PUSH frame inválido");
+            }
+        }
+    }
+
+    // PEDIDO_ATUALIZADO e MESA_ATUALIZADA trazem o objeto inteiro; PEDIDO_DELTA traz pedidoId e o status em alteracoes
+    private void processar(JsonNode mensagem, long recebidoEm) {
+        String tipo = mensagem.path("tipo").asText();
+        String entidade = tipo.startsWith("PEDIDO_") ? PEDIDO : tipo.startsWith("MESA_") ? MESA : null;
+        if (entidade == null) {
+            return;
+        }
+        JsonNode dados = mensagem.path("dados");
+        JsonNode id = dados.has("pedidoId") ? dados.get("pedidoId") : dados.path("id");
+        JsonNode status = dados.has("status") ? dados.get("status") : dados.path("alteracoes").path("status");
+        if (!id.canConvertToLong() || !status.isTextual()) {
+            return;
+        }
+
+        String chave = chave(entidade, id.asLong(), status.asText());
+        Long enviadoEm = enviados.get(chave);
+        if (enviadoEm == null) {
+            return;
+        }
+        latencias.registrar("PUSH " + entidade + " (por assinante)", recebidoEm - enviadoEm);
+        if (entregues.add(chave)) {
+            latencias.registrar("PUSH " + entidade + " (primeira entrega)", recebidoEm - enviadoEm);
+            contador(entreguesPorEntidade, entidade).increment();
+        }
+    }
+
+    private static String chave(String entidade, long id, String status) {
+        return entidade + ":" + id + ":" + status;
+    }
+
+    private static LongAdder contador(Map<String, LongAdder> contadores, String entidade) {
+        return contadores.computeIfAbsent(entidade, e -> new LongAdder());
+    }
+}
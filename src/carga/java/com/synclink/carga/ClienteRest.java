@@ -0,0 +1,106 @@
+package com.synclink.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Cliente HTTP da simulação: cada chamada é cronometrada sob o nome do endpoint
+ * (rota com {id}, não a URL concreta), para agregar as amostras por operação.
+ */
+class ClienteRest {
+
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final Latencias latencias;
+    private volatile String token;
+
+    ClienteRest(String baseUrl, ObjectMapper objectMapper, Latencias latencias) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.latencias = latencias;
+    }
+
+    void autenticar(String email, String senha) {
+        JsonNode resposta = post("POST /auth/login", "/auth/login",
+                objectMapper.createObjectNode().put("email", email).put("senha", senha));
+        this.token = resposta.path("token").asText();
+    }
+
+    String getToken() {
+        return token;
+    }
+
+    JsonNode get(String operacao, String rota) {
+        return enviar(operacao, HttpRequest.newBuilder(uri(rota)).GET());
+    }
+
+    JsonNode post(String operacao, String rota, Object corpo) {
+        return enviar(operacao, HttpRequest.newBuilder(uri(rota)).POST(corpo(corpo)));
+    }
+
+    JsonNode patch(String operacao, String rota) {
+        return enviar(operacao, HttpRequest.newBuilder(uri(rota)).method("PATCH", HttpRequest.BodyPublishers.noBody()));
+    }
+
+    private JsonNode enviar(String operacao, HttpRequest.Builder requisicao) {
+        requisicao.header("Content-Type", "application/json")
+                .header("Accept", "application/json")
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            requisicao.header("Authorization", "Bearer " + token);
+        }
+
+        long inicio = System.nanoTime();
+        HttpResponse<byte[]> resposta;
+        try {
+            resposta = http.send(requisicao.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            latencias.registrarErro(operacao);
+            throw new IllegalStateException(operacao + ": " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(operacao + " interrompida", e);
+        }
+        long duracao = System.nanoTime() - inicio;
+
+        if (resposta.statusCode() >= 400) {
+            latencias.registrarErro(operacao);
+            throw new IllegalStateException(operacao + " -> HTTP " + resposta.statusCode() + ": "
+                    + new String(resposta.body()));
+        }
+        latencias.registrar(operacao, duracao);
+
+        try {
+            return resposta.body().length == 0 ? objectMapper.nullNode() : objectMapper.readTree(resposta.body());
+        } catch (IOException e) {
+            throw new IllegalStateException(operacao + ": resposta inválida", e);
+        }
+    }
+
+    private URI uri(String rota) {
+        return URI.create(baseUrl + rota);
+    }
+
+    private HttpRequest.BodyPublisher corpo(Object corpo) {
+        if (corpo == null) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(corpo));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
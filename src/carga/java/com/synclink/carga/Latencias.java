@@ -0,0 +1,85 @@
+package com.synclink.carga;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Amostras de latência por operação (endpoint REST ou push WebSocket) e o resumo em percentis.
+ */
+class Latencias {
+
+    // Estatísticas de uma operação, em milissegundos
+    record Resumo(long amostras, long erros, double p50, double p90, double p99, double max) {
+    }
+
+    private static final class Amostras {
+        private long[] valores = new long[1024];
+        private int tamanho;
+        private final LongAdder erros = new LongAdder();
+
+        synchronized void adicionar(long nanos) {
+            if (tamanho == valores.length) {
+                valores = Arrays.copyOf(valores, tamanho * 2);
+            }
+            valores[tamanho++] = nanos;
+        }
+
+        synchronized long[] copiar() {
+            return Arrays.copyOf(valores, tamanho);
+        }
+    }
+
+    private final Map<String, Amostras> porOperacao = new ConcurrentHashMap<>();
+
+    void registrar(String operacao, long nanos) {
+        amostras(operacao).adicionar(nanos);
+    }
+
+    void registrarErro(String operacao) {
+        amostras(operacao).erros.increment();
+    }
+
+    Map<String, Resumo> resumir() {
+        Map<String, Resumo> resumo = new TreeMap<>();
+        porOperacao.forEach((operacao, amostras) -> {
+            long[] valores = amostras.copiar();
+            Arrays.sort(valores);
+            resumo.put(operacao, new Resumo(
+                    valores.length,
+                    amostras.erros.sum(),
+                    percentil(valores, 0.50),
+                    percentil(valores, 0.90),
+                    percentil(valores, 0.99),
+                    valores.length == 0 ? 0 : ms(valores[valores.length - 1])));
+        });
+        return resumo;
+    }
+
+    static String tabela(Map<String, Resumo> resumo) {
+        StringBuilder saida = new StringBuilder(String.format("%-52s %8s %6s %9s %9s %9s %9s%n",
+                "operação", "amostras", "erros", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        resumo.forEach((operacao, r) -> saida.append(String.format("%-52s %8d %6d %9.2f %9.2f %9.2f %9.2f%n",
+                operacao, r.amostras(), r.erros(), r.p50(), r.p90(), r.p99(), r.max())));
+        return saida.toString();
+    }
+
+    private Amostras amostras(String operacao) {
+        return porOperacao.computeIfAbsent(operacao, o -> new Amostras());
+    }
+
+    private static double percentil(long[] ordenados, double percentil) {
+        if (ordenados.length == 0) {
+            return 0;
+        }
+        int indice = (int) Math.ceil(ordenados.length * percentil) - 1;
+        return ms(ordenados[Math.max(indice, 0)]);
+    }
+
+    private static double ms(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
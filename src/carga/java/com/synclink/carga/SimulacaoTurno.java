@@ -0,0 +1,269 @@
+package com.synclink.carga;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.synclink.SyncLinkBackendApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 🍽️ Simulação de um turno completo pelas APIs reais (REST + STOMP).
+ * <p>
+ * Cada mesa repete o ciclo: abre comanda, cria pedido, adiciona itens, vincula o pedido à comanda,
+ * passa por EM_PREPARO / PRONTO / ENTREGUE, fecha, paga e fecha a comanda. Enquanto isso,
+ * assinantes WebSocket acompanham /topic/pedidos, /topic/cozinha e /topic/mesas. A latência de push
+ * de pedido é medida em cada mudança de status: PEDIDO_DELTA para EM_PREPARO / PRONTO / ENTREGUE e
+ * PEDIDO_FECHADO no fechamento.
+ * <p>
+ * Sem -Dcarga.url, a aplicação sobe nesta mesma JVM sobre um PostgreSQL embutido (binário local,
+ * sem contêiner). O resultado (p50/p90/p99 por endpoint e latência de push) vai para o console e
+ * para target/carga-result.json.
+ * <pre>
+ * mvn -Pcarga test-compile exec:exec -Dcarga.mesas=40 -Dcarga.ciclos=10 -Dcarga.assinantes=200
+ * </pre>
+ */
+public final class SimulacaoTurno {
+
+    private static final List<String> FLUXO_COZINHA = List.of("EM_PREPARO", "PRONTO", "ENTREGUE");
+
+    private final Config config;
+    private final ObjectMapper objectMapper;
+    private final Latencias latencias = new Latencias();
+    private final AtomicInteger ciclosConcluidos = new AtomicInteger();
+    private final AtomicInteger ciclosComErro = new AtomicInteger();
+
+    private ClienteRest rest;
+    private List<Long> produtos;
+    private List<Long> mesas;
+
+    record Config(String url, int mesas, int ciclos, int itens, int produtos, int assinantes,
+                  long pausaMs, String email, String senha, Path saida) {
+
+        static Config doSistema() {
+            return new Config(
+                    System.getProperty("carga.url", ""),
+                    Integer.getInteger("carga.mesas", 20),
+                    Integer.getInteger("carga.ciclos", 5),
+                    Integer.getInteger("carga.itens", 6),
+                    Integer.getInteger("carga.produtos", 100),
+                    Integer.getInteger("carga.assinantes", 50),
+                    Long.getLong("carga.pausa-ms", 50),
+                    System.getProperty("carga.email", "admin@gmail.com"),
+                    System.getProperty("carga.senha", "admin123"),
+                    Path.of(System.getProperty("carga.saida", "target/carga-result.json")));
+        }
+    }
+
+    SimulacaoTurno(Config config) {
+        this.config = config;
+        this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Config config = Config.doSistema();
+        if (!config.url().isBlank()) {
+            new SimulacaoTurno(config).executar(config.url());
+            return;
+        }
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.start();
+             ConfigurableApplicationContext aplicacao = iniciarAplicacao(postgres)) {
+            int porta = ((ServletWebServerApplicationContext) aplicacao).getWebServer().getPort();
+            new SimulacaoTurno(config).executar("http://localhost:" + porta + "/sync-link");
+        }
+    }
+
+    // ============================================================
+    // 🔹 EXECUÇÃO
+    // ============================================================
+
+    void executar(String baseUrl) throws Exception {
+        rest = new ClienteRest(baseUrl, objectMapper, latencias);
+        rest.autenticar(config.email(), config.senha());
+        prepararCatalogoEMesas();
+
+        try (AssinantesWebSocket assinantes = new AssinantesWebSocket(objectMapper, latencias)) {
+            assinantes.conectar(baseUrl.replaceFirst("^http", "ws") + "/ws", rest.getToken(), config.assinantes());
+
+            long inicio = System.nanoTime();
+            try (ExecutorService garcons = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> turnos = new ArrayList<>();
+                for (Long mesaId : mesas) {
+                    turnos.add(garcons.submit(() -> atenderMesa(mesaId, assinantes)));
+                }
+                for (Future<?> turno : turnos) {
+                    turno.get();
+                }
+            }
+            Duration duracao = Duration.ofNanos(System.nanoTime() - inicio);
+
+            // Últimas notificações ainda podem estar na janela de agrupamento ou a caminho
+            Thread.sleep(2000);
+            relatar(duracao, assinantes);
+        }
+    }
+
+    private void atenderMesa(long mesaId, AssinantesWebSocket assinantes) {
+        for (int ciclo = 0; ciclo < config.ciclos(); ciclo++) {
+            try {
+                cicloDaMesa(mesaId, assinantes);
+                ciclosConcluidos.incrementAndGet();
+            } catch (RuntimeException e) {
+                ciclosComErro.incrementAndGet();
+                System.err.println("⚠️ Mesa " + mesaId + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private void cicloDaMesa(long mesaId, AssinantesWebSocket assinantes) {
+        assinantes.aguardar(AssinantesWebSocket.MESA, mesaId, "OCUPADA");
+        JsonNode comanda = rest.post("POST /api/comandas/mesa/{mesaId}", "/api/comandas/mesa/" + mesaId, null);
+        long comandaId = comanda.path("id").asLong();
+        pausa();
+
+        JsonNode pedido = rest.post("POST /api/pedidos", "/api/pedidos", Map.of("mesaId", mesaId));
+        long pedidoId = pedido.path("id").asLong();
+
+        ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+        for (int i = 0; i < config.itens(); i++) {
+            rest.post("POST /api/pedidos/{id}/itens", "/api/pedidos/" + pedidoId + "/itens", Map.of(
+                    "produtoId", produtos.get(aleatorio.nextInt(produtos.size())),
+                    "quantidade", 1 + aleatorio.nextInt(3)));
+            pausa();
+        }
+
+        // Vincular à comanda não muda o status (o delta não traz status): nada a aguardar aqui
+        rest.post("POST /api/comandas/{id}/pedidos/{pedidoId}",
+                "/api/comandas/" + comandaId + "/pedidos/" + pedidoId, null);
+
+        // Tela da cozinha consultando a fila enquanto os pedidos andam
+        rest.get("GET /api/pedidos/cozinha", "/api/pedidos/cozinha");
+
+        for (String status : FLUXO_COZINHA) {
+            pausa();
+            assinantes.aguardar(AssinantesWebSocket.PEDIDO, pedidoId, status);
+            rest.patch("PATCH /api/pedidos/{id}/status", "/api/pedidos/" + pedidoId + "/status?status=" + status);
+        }
+
+        assinantes.aguardar(AssinantesWebSocket.PEDIDO, pedidoId, "FECHADO");
+        JsonNode fechado = rest.post("POST /api/pedidos/{id}/fechar", "/api/pedidos/" + pedidoId + "/fechar", Map.of());
+        BigDecimal valorFinal = fechado.path("valorFinal").decimalValue();
+        pausa();
+
+        rest.post("POST /api/pagamentos/pedido/{id}/processar",
+                "/api/pagamentos/pedido/" + pedidoId + "/processar?formaPagamento=PIX&valor=" + valorFinal.toPlainString(),
+                null);
+
+        assinantes.aguardar(AssinantesWebSocket.MESA, mesaId, "LIVRE");
+        rest.post("POST /api/comandas/{id}/fechar", "/api/comandas/" + comandaId + "/fechar", null);
+        pausa();
+    }
+
+    // ============================================================
+    // 🔹 PREPARAÇÃO
+    // ============================================================
+
+    private void prepararCatalogoEMesas() {
+        // Nomes e números únicos por execução: a simulação pode rodar várias vezes contra o mesmo banco
+        long execucao = System.currentTimeMillis() / 1000 % 100_000;
+
+        JsonNode categoria = rest.post("POST /api/categorias", "/api/categorias",
+                Map.of("nome", "Carga " + execucao, "descricao", "Categoria da simulação de turno"));
+        long categoriaId = categoria.path("id").asLong();
+
+        produtos = new ArrayList<>(config.produtos());
+        for (int i = 1; i <= config.produtos(); i++) {
+            JsonNode produto = rest.post("POST /api/produtos", "/api/produtos", Map.of(
+                    "nome", "Produto carga " + execucao + "-" + i,
+                    "preco", BigDecimal.valueOf(500 + (i * 37L) % 9000, 2),
+                    "categoriaId", categoriaId));
+            produtos.add(produto.path("id").asLong());
+        }
+
+        mesas = new ArrayList<>(config.mesas());
+        for (int i = 1; i <= config.mesas(); i++) {
+            JsonNode mesa = rest.post("POST /api/mesas", "/api/mesas", Map.of(
+                    "numero", (int) (100_000 + execucao * 1000 + i),
+                    "status", "LIVRE",
+                    "descricao", "Mesa da simulação"));
+            mesas.add(mesa.path("id").asLong());
+        }
+    }
+
+    // ============================================================
+    // 🔹 RELATÓRIO
+    // ============================================================
+
+    private void relatar(Duration duracao, AssinantesWebSocket assinantes) throws Exception {
+        Map<String, Latencias.Resumo> operacoes = latencias.resumir();
+
+        Map<String, Object> relatorio = new LinkedHashMap<>();
+        relatorio.put("executadoEm", LocalDateTime.now().toString());
+        relatorio.put("config", config);
+        relatorio.put("duracaoSegundos", duracao.toMillis() / 1000.0);
+        relatorio.put("ciclosConcluidos", ciclosConcluidos.get());
+        relatorio.put("ciclosComErro", ciclosComErro.get());
+        relatorio.put("ciclosPorSegundo", ciclosConcluidos.get() / Math.max(duracao.toMillis() / 1000.0, 0.001));
+        relatorio.put("framesWebSocketRecebidos", assinantes.framesRecebidos());
+        relatorio.put("notificacoes", assinantes.entregas());
+        relatorio.put("operacoes", operacoes);
+
+        Files.createDirectories(config.saida().toAbsolutePath().getParent());
+        objectMapper.writer().with(SerializationFeature.INDENT_OUTPUT).writeValue(config.saida().toFile(), relatorio);
+
+        System.out.println();
+        System.out.printf("Turno simulado: %d mesas x %d ciclos em %.1f s (%d concluídos, %d com erro)%n",
+                config.mesas(), config.ciclos(), duracao.toMillis() / 1000.0, ciclosConcluidos.get(), ciclosComErro.get());
+        System.out.println(Latencias.tabela(operacoes));
+        System.out.println("Notificações (esperadas / entregues a pelo menos um assinante): " + assinantes.entregas());
+        System.out.println("Relatório: " + config.saida().toAbsolutePath());
+    }
+
+    // ============================================================
+    // 🔹 MÉTODOS AUXILIARES
+    // ============================================================
+
+    private static ConfigurableApplicationContext iniciarAplicacao(EmbeddedPostgres postgres) {
+        return new SpringApplicationBuilder(SyncLinkBackendApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "spring.datasource.username=postgres",
+                        "spring.datasource.password=postgres",
+                        "spring.jpa.show-sql=false",
+                        "spring.devtools.restart.enabled=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.synclink=WARN")
+                .run();
+    }
+
+    private void pausa() {
+        if (config.pausaMs() <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(config.pausaMs() / 2, config.pausaMs() + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
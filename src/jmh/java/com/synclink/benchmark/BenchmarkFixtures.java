@@ -0,0 +1,88 @@
+package com.synclink.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synclink.application.mapper.ItemPedidoMapperImpl;
+import com.synclink.application.mapper.PedidoMapperImpl;
+import com.synclink.application.mapper.ProdutoMapperImpl;
+import com.synclink.model.Categoria;
+import com.synclink.model.ItemPedido;
+import com.synclink.model.Mesa;
+import com.synclink.model.Pedido;
+import com.synclink.model.Produto;
+import com.synclink.model.Usuario;
+import com.synclink.model.enums.PerfilUsuario;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Dados de exemplo compartilhados pelos benchmarks: pedidos e cardápio com tamanhos
+ * próximos aos de um turno real, sem banco de dados.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    // Mappers gerados pelo MapStruct (componentModel spring) com as dependências injetadas
+    static AnnotationConfigApplicationContext mappers() {
+        return new AnnotationConfigApplicationContext(
+                PedidoMapperImpl.class, ItemPedidoMapperImpl.class, ProdutoMapperImpl.class);
+    }
+
+    // Mesmo JSON usado pela aplicação (módulo de datas do Jackson registrado)
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    static List<Categoria> categorias(int quantidade) {
+        List<Categoria> categorias = new ArrayList<>(quantidade);
+        for (int i = 1; i <= quantidade; i++) {
+            Categoria categoria = new Categoria();
+            categoria.setId((long) i);
+            categoria.setNome("Categoria " + i);
+            categoria.setDescricao("Itens da categoria " + i);
+            categoria.setAtivo(true);
+            categorias.add(categoria);
+        }
+        return categorias;
+    }
+
+    static List<Produto> produtos(int quantidade, List<Categoria> categorias) {
+        List<Produto> produtos = new ArrayList<>(quantidade);
+        for (int i = 1; i <= quantidade; i++) {
+            Produto produto = new Produto("Produto " + i, "Descrição do produto " + i,
+                    BigDecimal.valueOf(500 + (i * 37L) % 9000, 2), categorias.get(i % categorias.size()));
+            produto.setId((long) i);
+            produtos.add(produto);
+        }
+        return produtos;
+    }
+
+    static Pedido pedido(int itens) {
+        Mesa mesa = new Mesa();
+        mesa.setId(7L);
+        mesa.setNumero(7);
+
+        Usuario garcom = new Usuario("Garçom", "garcom@synclink.com", "-", PerfilUsuario.GARCOM);
+        garcom.setId(3L);
+
+        Pedido pedido = Pedido.builder()
+                .id(42L)
+                .mesa(mesa)
+                .usuario(garcom)
+                .build();
+
+        List<Produto> produtos = produtos(itens, categorias(5));
+        for (int i = 0; i < itens; i++) {
+            ItemPedido item = new ItemPedido(pedido, produtos.get(i), 1 + i % 4, i % 3 == 0 ? "sem cebola" : null);
+            item.setId((long) i + 1);
+            pedido.getItens().add(item);
+        }
+        pedido.calcularTotais();
+        return pedido;
+    }
+}
@@ -0,0 +1,65 @@
+package com.synclink.benchmark;
+
+import com.synclink.application.mapper.ProdutoMapper;
+import com.synclink.application.service.CardapioService;
+import com.synclink.application.service.impl.CardapioServiceImpl;
+import com.synclink.domain.repository.CategoriaRepository;
+import com.synclink.domain.repository.ProdutoRepository;
+import com.synclink.model.Categoria;
+import com.synclink.model.Produto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Cardápio com 500 produtos em 20 categorias: montagem completa do snapshot
+ * (mapeamento, JSON, gzip e ETag) contra a leitura do snapshot já pronto.
+ * Os repositórios devolvem listas em memória, então só o custo da aplicação é medido.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CardapioBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+    private CardapioService cardapioService;
+
+    @Setup
+    public void setup() {
+        List<Categoria> categorias = BenchmarkFixtures.categorias(20);
+        List<Produto> produtos = BenchmarkFixtures.produtos(500, categorias);
+
+        CategoriaRepository categoriaRepository = mock(CategoriaRepository.class);
+        ProdutoRepository produtoRepository = mock(ProdutoRepository.class);
+        when(categoriaRepository.findByAtivo(true)).thenReturn(categorias);
+        when(produtoRepository.findByAtivo(true)).thenReturn(produtos);
+
+        context = BenchmarkFixtures.mappers();
+        cardapioService = new CardapioServiceImpl(categoriaRepository, produtoRepository,
+                context.getBean(ProdutoMapper.class), BenchmarkFixtures.objectMapper());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CardapioService.Snapshot montarSnapshot() {
+        cardapioService.invalidar();
+        return cardapioService.obterSnapshot();
+    }
+
+    @Benchmark
+    public CardapioService.Snapshot snapshotEmCache() {
+        return cardapioService.obterSnapshot();
+    }
+}
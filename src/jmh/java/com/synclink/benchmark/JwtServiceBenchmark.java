@@ -0,0 +1,76 @@
+package com.synclink.benchmark;
+
+import com.synclink.infrastructure.security.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validações de token por segundo: parser/chave montados a cada leitura (como era antes)
+ * contra o parser compartilhado do JwtService, com e sem memorização por requisição.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    static final String SECRET = "bG9uZy1yYW5kb20tc2VjdXJlLWtleS1mb3ItamF2YS1zdHJpbmctand0LWVuY29kaW5nLTQ2Nzg5MA==";
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtService = new JwtService(SECRET, 60);
+        token = jwtService.generateToken("garcom@synclink.com");
+    }
+
+    // ==============================
+    // ANTES: chave e parser recriados em cada leitura, três leituras por requisição
+    // ==============================
+    @Benchmark
+    public void parserPorLeitura(Blackhole bh) {
+        bh.consume(parseLegado().getSubject());
+        bh.consume(parseLegado().getSubject());
+        bh.consume(parseLegado().getExpiration());
+    }
+
+    private Claims parseLegado() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    // ==============================
+    // DEPOIS
+    // ==============================
+    @Benchmark
+    public JwtService.TokenInfo parserCompartilhado() {
+        return jwtService.parseToken(token);
+    }
+
+    @Benchmark
+    public void parserCompartilhadoPorRequisicao(Blackhole bh) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        try {
+            bh.consume(jwtService.parseToken(token));
+            bh.consume(jwtService.extractUsername(token));
+            bh.consume(jwtService.validateToken(token));
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+}
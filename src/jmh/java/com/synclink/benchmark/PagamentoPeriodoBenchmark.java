@@ -0,0 +1,134 @@
+package com.synclink.benchmark;
+
+import com.synclink.SyncLinkBackendApplication;
+import com.synclink.application.dto.PagamentoDTO;
+import com.synclink.application.service.PagamentoService;
+import com.synclink.domain.repository.PagamentoRepository;
+import com.synclink.model.Pagamento;
+import com.synclink.model.enums.StatusPagamento;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pagamentos por período sobre uma tabela com 1 milhão de linhas (um ano de movimento)
+ * num PostgreSQL embarcado: busca e total filtrados no banco, pelos índices de data_criacao,
+ * contra a varredura completa com filtro e soma em memória, que era o caminho anterior.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx6g")
+public class PagamentoPeriodoBenchmark {
+
+    private static final int PEDIDOS = 20_000;
+    private static final int PAGAMENTOS = 1_000_000;
+    private static final int DIAS = 365;
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext aplicacao;
+    private PagamentoService pagamentoService;
+    private PagamentoRepository pagamentoRepository;
+
+    private String dia;
+    private LocalDateTime inicio;
+    private LocalDateTime fim;
+
+    @Setup
+    public void setup() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        aplicacao = new SpringApplicationBuilder(SyncLinkBackendApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                        "spring.datasource.username=postgres",
+                        "spring.datasource.password=postgres",
+                        "spring.jpa.show-sql=false",
+                        "spring.devtools.restart.enabled=false",
+                        "sync.sql.lentas.habilitado=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.synclink=WARN")
+                .run();
+        pagamentoService = aplicacao.getBean(PagamentoService.class);
+        pagamentoRepository = aplicacao.getBean(PagamentoRepository.class);
+
+        popular(aplicacao.getBean(JdbcTemplate.class));
+
+        LocalDate meio = LocalDate.now().minusDays(DIAS / 2);
+        dia = meio.toString();
+        inicio = meio.atStartOfDay();
+        fim = meio.plusDays(1).atStartOfDay();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        aplicacao.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public List<PagamentoDTO> pagamentosDoDia() {
+        return pagamentoService.findPagamentosDia(dia);
+    }
+
+    @Benchmark
+    public BigDecimal totalDoDia() {
+        return pagamentoService.calcularTotalPagamentosPeriodo(dia, dia);
+    }
+
+    // Referência: todas as linhas carregadas, filtradas e somadas na JVM
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public BigDecimal totalDoDiaEmMemoria() {
+        return pagamentoRepository.findAll().stream()
+                .filter(p -> p.getStatus() == StatusPagamento.APROVADO)
+                .filter(p -> !p.getDataCriacao().isBefore(inicio) && p.getDataCriacao().isBefore(fim))
+                .map(Pagamento::getValor)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    // ============================================================
+    // 🔹 MASSA DE DADOS
+    // ============================================================
+
+    // Gerada no próprio banco: 1 milhão de INSERTs pela aplicação tornariam o setup mais lento que a medição
+    private static void popular(JdbcTemplate jdbc) {
+        Long usuarioId = jdbc.queryForObject("SELECT id FROM usuarios ORDER BY id LIMIT 1", Long.class);
+        Long mesaId = jdbc.queryForObject(
+                "INSERT INTO mesas (numero, status) VALUES (9999, 'LIVRE') RETURNING id", Long.class);
+
+        jdbc.update("""
+                INSERT INTO pedidos (mesa_id, usuario_id, status, total, valor_final, data_criacao, data_fechamento)
+                SELECT ?, ?, 'FECHADO', 100.00, 100.00,
+                       now() - make_interval(days => (g % ?)), now() - make_interval(days => (g % ?))
+                FROM generate_series(1, ?) g
+                """, mesaId, usuarioId, DIAS, DIAS, PEDIDOS);
+
+        jdbc.update("""
+                INSERT INTO pagamentos (pedido_id, forma_pagamento, valor, status, data_criacao)
+                SELECT p.ids[1 + (g % array_length(p.ids, 1))],
+                       (ARRAY['DINHEIRO', 'CARTAO_CREDITO', 'CARTAO_DEBITO', 'PIX'])[1 + (g % 4)],
+                       round((10 + random() * 190)::numeric, 2),
+                       CASE WHEN g % 10 = 0 THEN 'RECUSADO' ELSE 'APROVADO' END,
+                       now() - make_interval(secs => random() * ? * 86400)
+                FROM generate_series(1, ?) g,
+                     (SELECT array_agg(id) AS ids FROM pedidos) p
+                """, DIAS, PAGAMENTOS);
+
+        jdbc.execute("ANALYZE pedidos");
+        jdbc.execute("ANALYZE pagamentos");
+    }
+}
@@ -0,0 +1,63 @@
+package com.synclink.benchmark;
+
+import com.synclink.application.dto.PedidoDTO;
+import com.synclink.application.mapper.PedidoMapper;
+import com.synclink.model.ItemPedido;
+import com.synclink.model.Pedido;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminho quente do ciclo de vida do pedido: recálculo de totais, subtotal dos itens
+ * e conversão para DTO (feita a cada resposta REST e notificação WebSocket).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PedidoBenchmark {
+
+    // Pedido típico de mesa e pedido grande (30 itens)
+    @Param({"5", "30"})
+    public int itens;
+
+    private AnnotationConfigApplicationContext context;
+    private PedidoMapper pedidoMapper;
+    private Pedido pedido;
+
+    @Setup
+    public void setup() {
+        context = BenchmarkFixtures.mappers();
+        pedidoMapper = context.getBean(PedidoMapper.class);
+        pedido = BenchmarkFixtures.pedido(itens);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public BigDecimal calcularTotais() {
+        pedido.calcularTotais();
+        return pedido.getValorFinal();
+    }
+
+    @Benchmark
+    public void subtotalItens(Blackhole bh) {
+        for (ItemPedido item : pedido.getItens()) {
+            bh.consume(item.getSubtotal());
+        }
+    }
+
+    @Benchmark
+    public PedidoDTO pedidoMapperToDto() {
+        return pedidoMapper.toDto(pedido);
+    }
+}
@@ -0,0 +1,93 @@
+package com.synclink.benchmark;
+
+import com.synclink.infrastructure.websocket.ContrapressaoWebSocket;
+import com.synclink.infrastructure.websocket.SessaoComContrapressao;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Latência de entrega para 500 sessões saudáveis enquanto 20 sessões travadas recebem o mesmo fluxo:
+ * cada operação publica um frame em todas as sessões e espera a entrega em todas as saudáveis.
+ * Meta: p0.99 abaixo de 100 ms (as travadas não podem atrasar as demais).
+ * Os limites de tempo por sessão ficam acima da iteração, para as travadas seguirem presas durante a medição.
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.include=SessaoContrapressao
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SessaoContrapressaoBenchmark {
+
+    private static final int SAUDAVEIS = 500;
+    private static final int TRAVADAS = 20;
+    private static final long TEMPO_LIMITE_MS = 30_000;
+    private static final String PREENCHIMENTO = "x".repeat(200);
+
+    private ContrapressaoWebSocket politica;
+    private List<SessaoComContrapressao> sessoes;
+    private CountDownLatch liberarTravadas;
+    private volatile CountDownLatch entregues;
+
+    @Setup(Level.Iteration)
+    public void setup() throws Exception {
+        politica = new ContrapressaoWebSocket(new SimpleMeterRegistry(), TEMPO_LIMITE_MS, 4, List.of("/topic/mesas"));
+        sessoes = new ArrayList<>();
+        liberarTravadas = new CountDownLatch(1);
+
+        for (int i = 0; i < SAUDAVEIS; i++) {
+            WebSocketSession saudavel = sessaoAberta("s" + i);
+            doAnswer(inv -> {
+                entregues.countDown();
+                return null;
+            }).when(saudavel).sendMessage(any());
+            sessoes.add(new SessaoComContrapressao(saudavel, politica, Thread.ofVirtual()::start));
+        }
+        for (int i = 0; i < TRAVADAS; i++) {
+            WebSocketSession travada = sessaoAberta("t" + i);
+            doAnswer(inv -> {
+                liberarTravadas.await();
+                return null;
+            }).when(travada).sendMessage(any());
+            sessoes.add(new SessaoComContrapressao(travada, politica, Thread.ofVirtual()::start));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        liberarTravadas.countDown();
+        politica.close();
+    }
+
+    @Benchmark
+    public void publicarParaTodas() throws Exception {
+        entregues = new CountDownLatch(SAUDAVEIS);
+        TextMessage frame = new TextMessage("MESSAGE\ndestination:/topic/pedidos\n\n" + PREENCHIMENTO + "\0");
+        for (SessaoComContrapressao sessao : sessoes) {
+            sessao.sendMessage(frame);
+        }
+        if (!entregues.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Sessões saudáveis não receberam o frame em 5 s");
+        }
+    }
+
+    private static WebSocketSession sessaoAberta(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+}
@@ -0,0 +1,89 @@
+package com.synclink.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.synclink.application.dto.PedidoDTO;
+import com.synclink.application.dto.WebSocketMessageDTO;
+import com.synclink.application.mapper.PedidoMapper;
+import com.synclink.application.service.PedidoDeltaService;
+import com.synclink.model.Pedido;
+import com.synclink.model.TiposMensagem;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Notificação de pedido atualizado (pedido de 30 itens), nos dois caminhos do notificarPedidoAtualizado:
+ * <ul>
+ *   <li>pedido completo (PEDIDO_ATUALIZADO, primeira publicação ou sem versão): serializado uma vez
+ *       por destino (como o convertAndSend fazia) contra uma única vez para todos os destinos;</li>
+ *   <li>delta (PEDIDO_DELTA, caso comum): PedidoDeltaService.proximaMensagem compara com o último
+ *       estado publicado e o resultado é serializado uma vez, com um item e os totais alterados.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WebSocketMessageBenchmark {
+
+    // notificarPedidoAtualizado publica em /topic/pedidos e /topic/mesa.{id}
+    private static final int DESTINOS = 2;
+
+    private ObjectWriter writer;
+    private WebSocketMessageDTO mensagem;
+
+    private PedidoDeltaService deltaService;
+    // Dois estados do mesmo pedido, alternados a cada versão: cada chamada gera um delta de verdade
+    private PedidoDTO[] estados;
+    private long versao;
+
+    @Setup
+    public void setup() {
+        writer = BenchmarkFixtures.objectMapper().writer().without(SerializationFeature.INDENT_OUTPUT);
+        try (AnnotationConfigApplicationContext context = BenchmarkFixtures.mappers()) {
+            PedidoMapper pedidoMapper = context.getBean(PedidoMapper.class);
+            mensagem = new WebSocketMessageDTO(
+                    TiposMensagem.PEDIDO_ATUALIZADO,
+                    pedidoMapper.toDto(BenchmarkFixtures.pedido(30)),
+                    3L,
+                    7L);
+
+            Pedido alterado = BenchmarkFixtures.pedido(30);
+            alterado.getItens().get(0).setQuantidade(9);
+            alterado.calcularTotais();
+            estados = new PedidoDTO[]{pedidoMapper.toDto(BenchmarkFixtures.pedido(30)), pedidoMapper.toDto(alterado)};
+        }
+
+        deltaService = new PedidoDeltaService(BenchmarkFixtures.objectMapper());
+        versao = 1;
+        estados[0].setVersao(versao);
+        deltaService.registrar(estados[0]);
+    }
+
+    @Benchmark
+    public byte[] serializar() throws JsonProcessingException {
+        return writer.writeValueAsBytes(mensagem);
+    }
+
+    @Benchmark
+    public void serializarPorDestino(Blackhole bh) throws JsonProcessingException {
+        for (int i = 0; i < DESTINOS; i++) {
+            bh.consume(writer.writeValueAsBytes(mensagem));
+        }
+    }
+
+    @Benchmark
+    public byte[] deltaSerializado() throws JsonProcessingException {
+        versao++;
+        PedidoDTO estado = estados[(int) (versao % 2)];
+        estado.setVersao(versao);
+        WebSocketMessageDTO delta = deltaService.proximaMensagem(estado, 3L, 7L);
+        return writer.writeValueAsBytes(delta);
+    }
+}
@@ -3,6 +3,7 @@ package com.synclink.application.controller;
 import com.synclink.application.dto.auth.*;
 import com.synclink.application.service.AuthService;
 import com.synclink.domain.repository.UsuarioRepository;
+import com.synclink.exception.ServicoSobrecarregadoException;
 import com.synclink.infrastructure.security.JwtService;
 import com.synclink.model.enums.PerfilUsuario;
 import com.synclink.model.Usuario;
@@ -82,6 +83,8 @@ public class AuthController {
 
             return ResponseEntity.status(HttpStatus.CREATED).body(response);
 
+        } catch (ServicoSobrecarregadoException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Erro ao cadastrar usuário", e);
             return ResponseEntity.internalServerError()
@@ -97,13 +100,16 @@ public class AuthController {
             description = "Autentica o usuário com e-mail e senha e retorna um token JWT válido.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Login realizado com sucesso"),
-            @ApiResponse(responseCode = "401", description = "Credenciais inválidas")
+            @ApiResponse(responseCode = "401", description = "Credenciais inválidas"),
+            @ApiResponse(responseCode = "503", description = "Muitos logins simultâneos; tente novamente em instantes")
     })
     public ResponseEntity<?> login(@Valid @RequestBody AuthRequest request) {
         try {
             AuthResponse response = authService.authenticate(request, authenticationManager);
             return ResponseEntity.ok(response);
 
+        } catch (ServicoSobrecarregadoException e) {
+            throw e;
         } catch (Exception e) {
             log.warn("Falha ao autenticar usuário: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
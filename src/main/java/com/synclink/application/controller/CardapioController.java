@@ -0,0 +1,61 @@
+package com.synclink.application.controller;
+
+import com.synclink.application.dto.CardapioDTO;
+import com.synclink.application.service.CardapioService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/cardapio")
+@RequiredArgsConstructor
+@Tag(name = "Cardápio", description = "Cardápio consolidado para tablets e clientes")
+public class CardapioController {
+
+    private final CardapioService cardapioService;
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Obter o cardápio (categorias e produtos ativos)",
+            description = "Responde 304 quando o If-None-Match corresponde à ETag atual; envia gzip se o cliente aceitar",
+            responses = @ApiResponse(responseCode = "200",
+                    content = @Content(schema = @Schema(implementation = CardapioDTO.class))))
+    public ResponseEntity<byte[]> obterCardapio(
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CardapioService.Snapshot snapshot = cardapioService.obterSnapshot();
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        // ETags fortes distintas por codificação; ambas identificam a mesma versão do cardápio
+        String etag = gzip ? "\"" + snapshot.versao() + "-gzip\"" : "\"" + snapshot.versao() + "\"";
+
+        if (ifNoneMatch != null && (ifNoneMatch.contains(snapshot.versao()) || ifNoneMatch.trim().equals("*"))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+
+        if (gzip) {
+            return resposta.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip());
+        }
+        return resposta.body(snapshot.json());
+    }
+}
@@ -5,6 +5,10 @@ import com.synclink.application.service.ComandaService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -59,6 +63,13 @@ public class ComandaController {
         return ResponseEntity.ok(comandaService.findComandasAbertas());
     }
 
+    @GetMapping("/paginado")
+    @Operation(summary = "Listar comandas paginadas (mais recentes primeiro)")
+    public ResponseEntity<Page<ComandaDTO>> findAllPaginado(
+            @PageableDefault(size = 20, sort = "dataAbertura", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(comandaService.findAll(pageable));
+    }
+
     @GetMapping("/status/{status}")
     @Operation(summary = "Listar comandas por status")
     public ResponseEntity<List<ComandaDTO>> findByStatus(@PathVariable String status) {
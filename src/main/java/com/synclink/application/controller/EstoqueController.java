@@ -6,6 +6,9 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -26,6 +29,13 @@ public class EstoqueController {
         return ResponseEntity.ok(estoqueService.findAll());
     }
 
+    @GetMapping("/paginado")
+    @Operation(summary = "Listar registros de estoque paginados")
+    public ResponseEntity<Page<EstoqueDTO>> findAllPaginado(
+            @PageableDefault(size = 20, sort = "id") Pageable pageable) {
+        return ResponseEntity.ok(estoqueService.findAll(pageable));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Buscar um registro de estoque pelo ID")
     public ResponseEntity<EstoqueDTO> findById(@PathVariable Long id) {
@@ -1,6 +1,7 @@
 package com.synclink.application.controller;
 
 import com.synclink.application.dto.PagamentoDTO;
+import com.synclink.application.dto.PaginaCursorDTO;
 import com.synclink.application.service.PagamentoService;
 import com.synclink.model.enums.FormaPagamento;
 import com.synclink.model.enums.StatusPagamento;
@@ -8,11 +9,17 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -30,6 +37,25 @@ public class PagamentoController {
         return ResponseEntity.ok(pagamentoService.findAll());
     }
 
+    @GetMapping("/paginado")
+    @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE', 'CAIXA')")
+    @Operation(summary = "Listar pagamentos paginados")
+    public ResponseEntity<Page<PagamentoDTO>> findAllPaginado(
+            @PageableDefault(size = 20, sort = "dataCriacao", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(pagamentoService.findAll(pageable));
+    }
+
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE', 'CAIXA')")
+    @Operation(summary = "Listar pagamentos por cursor (mais recentes primeiro)",
+            description = "Informe apos e aposId retornados na página anterior para continuar a leitura")
+    public ResponseEntity<PaginaCursorDTO<PagamentoDTO>> findPorCursor(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime apos,
+            @RequestParam(required = false) Long aposId,
+            @RequestParam(defaultValue = "20") int tamanho) {
+        return ResponseEntity.ok(pagamentoService.findPorCursor(apos, aposId, tamanho));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Buscar pagamento por ID")
     public ResponseEntity<PagamentoDTO> buscarPorId(@PathVariable Long id) {
@@ -1,8 +1,10 @@
 package com.synclink.application.controller;
 
 import com.synclink.application.dto.*;
+import com.synclink.application.service.AnaliseCozinhaService;
 import com.synclink.application.service.AuthService;
 import com.synclink.application.service.PedidoService;
+import com.synclink.application.service.ResumoVendasService;
 import com.synclink.infrastructure.security.JwtService;
 import com.synclink.model.enums.StatusPedido;
 import com.synclink.model.Usuario;
@@ -10,11 +12,19 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
 import java.net.URI;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -26,6 +36,8 @@ public class PedidoController {
     private final PedidoService pedidoService;
     private final JwtService jwtService;
     private final AuthService authService;
+    private final ResumoVendasService resumoVendasService;
+    private final AnaliseCozinhaService analiseCozinhaService;
 
     // ==============================
     // CRUD BÁSICO
@@ -36,6 +48,23 @@ public class PedidoController {
         return ResponseEntity.ok(pedidoService.findAll());
     }
 
+    @GetMapping("/paginado")
+    @Operation(summary = "Listar pedidos paginados")
+    public ResponseEntity<Page<PedidoDTO>> findAllPaginado(
+            @PageableDefault(size = 20, sort = "dataCriacao", direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(pedidoService.findAll(pageable));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "Listar pedidos por cursor (mais recentes primeiro)",
+            description = "Informe apos e aposId retornados na página anterior para continuar a leitura")
+    public ResponseEntity<PaginaCursorDTO<PedidoDTO>> findPorCursor(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime apos,
+            @RequestParam(required = false) Long aposId,
+            @RequestParam(defaultValue = "20") int tamanho) {
+        return ResponseEntity.ok(pedidoService.findPorCursor(apos, aposId, tamanho));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Buscar pedido por ID")
     public ResponseEntity<PedidoDTO> findById(@PathVariable Long id) {
@@ -150,10 +179,32 @@ public class PedidoController {
         return ResponseEntity.ok(pedidoService.findPedidosCozinha());
     }
 
+    @GetMapping("/cozinha/indicadores")
+    @Operation(summary = "Tempos por status e de preparo por categoria (p50/p90 e pedidos por minuto) na janela móvel")
+    public ResponseEntity<IndicadoresCozinhaDTO> indicadoresCozinha() {
+        return ResponseEntity.ok(analiseCozinhaService.obterIndicadores());
+    }
+
     @GetMapping("/estatisticas")
     @Operation(summary = "Obter estatísticas de vendas por período")
     public ResponseEntity<EstatisticasPedidosDTO> estatisticas(@RequestParam String dataInicio,
                                                                @RequestParam String dataFim) {
         return ResponseEntity.ok(pedidoService.obterEstatisticas(dataInicio, dataFim));
     }
+
+    @GetMapping("/vendas-diarias")
+    @Operation(summary = "Obter resumo consolidado de vendas por dia, status, forma de pagamento e usuário")
+    public ResponseEntity<List<ResumoVendaDiariaDTO>> vendasDiarias(@RequestParam String dataInicio,
+                                                                    @RequestParam String dataFim) {
+        return ResponseEntity.ok(resumoVendasService.findPorPeriodo(dataInicio, dataFim));
+    }
+
+    @PostMapping("/vendas-diarias/reconstruir")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Reconstruir o resumo de vendas diárias a partir dos pedidos e pagamentos")
+    public ResponseEntity<Void> reconstruirVendasDiarias(@RequestParam String dataInicio,
+                                                         @RequestParam String dataFim) {
+        resumoVendasService.reconstruir(LocalDate.parse(dataInicio), LocalDate.parse(dataFim));
+        return ResponseEntity.noContent().build();
+    }
 }
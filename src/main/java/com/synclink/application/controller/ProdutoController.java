@@ -7,6 +7,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -29,6 +32,13 @@ public class ProdutoController {
         return ResponseEntity.ok(produtoService.findAll());
     }
 
+    @GetMapping("/paginado")
+    @Operation(summary = "Listar produtos paginados")
+    public ResponseEntity<Page<ProdutoDTO>> findAllPaginado(
+            @PageableDefault(size = 20, sort = "nome") Pageable pageable) {
+        return ResponseEntity.ok(produtoService.findAll(pageable));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Buscar produto por ID")
     public ResponseEntity<ProdutoDTO> findById(@PathVariable Long id) {
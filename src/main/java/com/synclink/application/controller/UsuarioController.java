@@ -9,6 +9,9 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -35,6 +38,14 @@ public class UsuarioController {
         return ResponseEntity.ok(usuarioService.findAll());
     }
 
+    @GetMapping("/paginado")
+    @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE')")
+    @Operation(summary = "Listar usuários paginados")
+    public ResponseEntity<Page<UsuarioDTO>> findAllPaginado(
+            @PageableDefault(size = 20, sort = "nome") Pageable pageable) {
+        return ResponseEntity.ok(usuarioService.findAll(pageable));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'GERENTE') or (hasRole('GARCOM') and @usuarioService.isCurrentUser(#id))")
     @Operation(summary = "Buscar usuário por ID", description = "ADMIN e GERENTE podem buscar qualquer usuário. Usuários comuns só podem buscar seus próprios dados")
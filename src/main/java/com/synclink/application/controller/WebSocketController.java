@@ -1,10 +1,13 @@
 package com.synclink.application.controller;
 
 import com.synclink.application.dto.WebSocketMessageDTO;
-import com.synclink.application.service.AuthService;
+import com.synclink.application.dto.PedidoDTO;
+import com.synclink.application.service.AnaliseCozinhaService;
+import com.synclink.application.service.PedidoService;
 import com.synclink.application.service.WebSocketService;
+import com.synclink.infrastructure.websocket.PresencaWebSocket;
+import com.synclink.infrastructure.websocket.UsuarioWebSocket;
 import com.synclink.model.TiposMensagem;
-import com.synclink.model.Usuario;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -31,7 +34,9 @@ import java.util.Map;
 public class WebSocketController {
 
     private final WebSocketService webSocketService;
-    private final AuthService authService;
+    private final PedidoService pedidoService;
+    private final PresencaWebSocket presenca;
+    private final AnaliseCozinhaService analiseCozinhaService;
 
     // ============================================================
     // 🔹 CONEXÃO E DESCONEXÃO DE CLIENTES
@@ -97,7 +102,7 @@ public class WebSocketController {
                                      SimpMessageHeaderAccessor headerAccessor) {
         try {
             String usuario = obterUsuarioDoHeader(headerAccessor);
-            mensagem.setUsuarioId(obterUsuarioId(usuario));
+            mensagem.setUsuarioId(obterUsuarioId(headerAccessor.getUser()));
             mensagem.setTimestamp(LocalDateTime.now());
 
             log.info("💬 Mensagem global de {}: {}", usuario, mensagem.getTipo());
@@ -115,7 +120,7 @@ public class WebSocketController {
                                        SimpMessageHeaderAccessor headerAccessor) {
         try {
             String usuario = obterUsuarioDoHeader(headerAccessor);
-            mensagem.setUsuarioId(obterUsuarioId(usuario));
+            mensagem.setUsuarioId(obterUsuarioId(headerAccessor.getUser()));
             mensagem.setTimestamp(LocalDateTime.now());
 
             log.info("🔔 Notificação geral de {}: {}", usuario, mensagem.getTipo());
@@ -137,7 +142,7 @@ public class WebSocketController {
                                     SimpMessageHeaderAccessor headerAccessor) {
         try {
             String usuario = obterUsuarioDoHeader(headerAccessor);
-            Long usuarioId = obterUsuarioId(usuario);
+            Long usuarioId = obterUsuarioId(headerAccessor.getUser());
             mensagem.setUsuarioId(usuarioId);
             mensagem.setTimestamp(LocalDateTime.now());
 
@@ -166,7 +171,7 @@ public class WebSocketController {
                                   SimpMessageHeaderAccessor headerAccessor) {
         try {
             String usuario = obterUsuarioDoHeader(headerAccessor);
-            Long usuarioId = obterUsuarioId(usuario);
+            Long usuarioId = obterUsuarioId(headerAccessor.getUser());
             mensagem.setUsuarioId(usuarioId);
             mensagem.setTimestamp(LocalDateTime.now());
 
@@ -185,7 +190,7 @@ public class WebSocketController {
                                      SimpMessageHeaderAccessor headerAccessor) {
         try {
             String usuario = obterUsuarioDoHeader(headerAccessor);
-            Long usuarioId = obterUsuarioId(usuario);
+            Long usuarioId = obterUsuarioId(headerAccessor.getUser());
             mensagem.setUsuarioId(usuarioId);
             mensagem.setTimestamp(LocalDateTime.now());
 
@@ -217,7 +222,7 @@ public class WebSocketController {
                                    SimpMessageHeaderAccessor headerAccessor) {
         try {
             String usuario = obterUsuarioDoHeader(headerAccessor);
-            Long usuarioId = obterUsuarioId(usuario);
+            Long usuarioId = obterUsuarioId(headerAccessor.getUser());
             mensagem.setUsuarioId(usuarioId);
             mensagem.setTimestamp(LocalDateTime.now());
 
@@ -230,6 +235,31 @@ public class WebSocketController {
         }
     }
 
+    @MessageMapping("/pedidos.resync")
+    @Operation(summary = "Reenviar o pedido completo (cliente detectou lacuna de versão nas mensagens PEDIDO_DELTA)")
+    public void ressincronizarPedido(@Payload WebSocketMessageDTO mensagem,
+                                     SimpMessageHeaderAccessor headerAccessor) {
+        try {
+            String usuario = obterUsuarioDoHeader(headerAccessor);
+            Long pedidoId = ((Number) mensagem.getDados()).longValue();
+
+            PedidoDTO pedido = pedidoService.findById(pedidoId);
+            WebSocketMessageDTO resposta = new WebSocketMessageDTO(
+                    TiposMensagem.PEDIDO_RESYNC,
+                    pedido,
+                    obterUsuarioId(headerAccessor.getUser()),
+                    pedido.getMesaId()
+            );
+
+            log.info("🔁 Ressincronização do pedido {} solicitada por {}", pedidoId, usuario);
+
+            webSocketService.enviarParaUsuario(usuario, "/queue/pedidos.resync", resposta);
+
+        } catch (Exception e) {
+            log.error("Erro ao processar ressincronização de pedido", e);
+        }
+    }
+
     // ============================================================
     // 🔹 MENSAGENS PRIVADAS ENTRE USUÁRIOS
     // ============================================================
@@ -240,7 +270,7 @@ public class WebSocketController {
                                       SimpMessageHeaderAccessor headerAccessor) {
         try {
             String remetente = obterUsuarioDoHeader(headerAccessor);
-            Long remetenteId = obterUsuarioId(remetente);
+            Long remetenteId = obterUsuarioId(headerAccessor.getUser());
 
             // O destinatário deve estar no payload
             String destinatario = (String) mensagem.getDados();
@@ -296,7 +326,7 @@ public class WebSocketController {
         return new WebSocketMessageDTO(
                 "SUBSCRICAO_MESAS_ATIVA",
                 dados,
-                obterUsuarioId(usuario)
+                obterUsuarioId(principal)
         );
     }
 
@@ -315,7 +345,7 @@ public class WebSocketController {
         return new WebSocketMessageDTO(
                 "SUBSCRICAO_PEDIDOS_ATIVA",
                 dados,
-                obterUsuarioId(usuario)
+                obterUsuarioId(principal)
         );
     }
 
@@ -328,13 +358,15 @@ public class WebSocketController {
         dados.put("mensagem", "Conectado às atualizações da cozinha");
         dados.put("usuario", usuario);
         dados.put("timestamp", LocalDateTime.now().toString());
+        // Painel atual de tempos; as atualizações seguintes chegam como INDICADORES_COZINHA
+        dados.put("indicadores", analiseCozinhaService.obterIndicadores());
 
         log.info("📡 Usuário {} subscreveu para atualizações da cozinha", usuario);
 
         return new WebSocketMessageDTO(
                 "SUBSCRICAO_COZINHA_ATIVA",
                 dados,
-                obterUsuarioId(usuario)
+                obterUsuarioId(principal)
         );
     }
 
@@ -353,7 +385,7 @@ public class WebSocketController {
         return new WebSocketMessageDTO(
                 "SUBSCRICAO_NOTIFICACOES_ATIVA",
                 dados,
-                obterUsuarioId(usuario)
+                obterUsuarioId(principal)
         );
     }
 
@@ -368,16 +400,9 @@ public class WebSocketController {
         return "Anonymous";
     }
 
-    private Long obterUsuarioId(String username) {
-        try {
-            if (!"Anonymous".equals(username)) {
-                Usuario usuario = (Usuario) authService.loadUserByUsername(username);
-                return usuario != null ? usuario.getId() : null;
-            }
-        } catch (Exception e) {
-            log.warn("Não foi possível obter ID do usuário: {}", username);
-        }
-        return null;
+    // ID resolvido no CONNECT (StompAuthInterceptor): nenhuma consulta ao banco por mensagem
+    private Long obterUsuarioId(Principal principal) {
+        return UsuarioWebSocket.idDe(principal);
     }
 
     // ============================================================
@@ -399,7 +424,7 @@ public class WebSocketController {
             WebSocketMessageDTO pong = new WebSocketMessageDTO(
                     "SYSTEM_PONG",
                     pongData,
-                    obterUsuarioId(usuario)
+                    obterUsuarioId(headerAccessor.getUser())
             );
 
             webSocketService.enviarParaUsuario(usuario, "/queue/system.status", pong);
@@ -421,12 +446,17 @@ public class WebSocketController {
             statusData.put("serverTime", System.currentTimeMillis());
             statusData.put("status", "operacional");
             statusData.put("version", "1.0.0");
-            statusData.put("activeConnections", "N/A"); // Poderia ser obtido de um serviço de monitoramento
+
+            PresencaWebSocket.Resumo conexoes = presenca.resumo();
+            statusData.put("activeConnections", conexoes.sessoes());
+            statusData.put("connectedUsers", conexoes.usuarios());
+            statusData.put("connectionsByPerfil", conexoes.porPerfil());
+            statusData.put("subscriptionsByTopic", conexoes.porTopico());
 
             WebSocketMessageDTO status = new WebSocketMessageDTO(
                     "SYSTEM_STATUS",
                     statusData,
-                    obterUsuarioId(usuario)
+                    obterUsuarioId(headerAccessor.getUser())
             );
 
             webSocketService.enviarParaUsuario(usuario, "/queue/system.status", status);
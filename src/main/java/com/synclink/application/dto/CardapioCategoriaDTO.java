@@ -0,0 +1,58 @@
+package com.synclink.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Categoria do cardápio com seus produtos ativos")
+public class CardapioCategoriaDTO {
+
+    @Schema(description = "ID da categoria", example = "1")
+    private Long id;
+
+    @Schema(description = "Nome da categoria", example = "Bebidas")
+    private String nome;
+
+    @Schema(description = "Descrição da categoria")
+    private String descricao;
+
+    @Schema(description = "Produtos ativos da categoria, em ordem alfabética")
+    private List<ProdutoDTO> produtos;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public void setDescricao(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public List<ProdutoDTO> getProdutos() {
+        return produtos;
+    }
+
+    public void setProdutos(List<ProdutoDTO> produtos) {
+        this.produtos = produtos;
+    }
+}
@@ -0,0 +1,25 @@
+package com.synclink.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Cardápio: categorias ativas com seus produtos ativos")
+public class CardapioDTO {
+
+    @Schema(description = "Categorias ativas, em ordem alfabética")
+    private List<CardapioCategoriaDTO> categorias;
+
+    public List<CardapioCategoriaDTO> getCategorias() {
+        return categorias;
+    }
+
+    public void setCategorias(List<CardapioCategoriaDTO> categorias) {
+        this.categorias = categorias;
+    }
+}
@@ -1,9 +1,12 @@
 package com.synclink.application.dto;
 
+import com.synclink.model.enums.StatusPedido;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 
 @Data
 @Builder
@@ -18,9 +21,24 @@ public class EstatisticasPedidosDTO {
     @Schema(description = "Total de pedidos cancelados no período")
     private Long totalCancelados;
 
-    @Schema(description = "Valor total vendido no período")
+    @Schema(description = "Valor total dos pedidos não cancelados no período, inclusive os ainda abertos")
     private BigDecimal totalVendas;
 
+    @Schema(description = "Valor médio por pedido, desconsiderando os cancelados")
+    private BigDecimal ticketMedio;
+
+    @Schema(description = "Quantidade de pedidos por status")
+    private Map<StatusPedido, Long> pedidosPorStatus;
+
+    @Schema(description = "Vendas por hora do dia (pedidos não cancelados)")
+    private List<VendasAgrupadasDTO> vendasPorHora;
+
+    @Schema(description = "Vendas por mesa (pedidos não cancelados)")
+    private List<VendasAgrupadasDTO> vendasPorMesa;
+
+    @Schema(description = "Vendas por garçom/usuário (pedidos não cancelados)")
+    private List<VendasAgrupadasDTO> vendasPorUsuario;
+
     @Schema(description = "Data de início do período analisado")
     private String periodoInicio;
 
@@ -66,4 +84,44 @@ public class EstatisticasPedidosDTO {
     public void setPeriodoFim(String periodoFim) {
         this.periodoFim = periodoFim;
     }
+
+    public BigDecimal getTicketMedio() {
+        return ticketMedio;
+    }
+
+    public void setTicketMedio(BigDecimal ticketMedio) {
+        this.ticketMedio = ticketMedio;
+    }
+
+    public Map<StatusPedido, Long> getPedidosPorStatus() {
+        return pedidosPorStatus;
+    }
+
+    public void setPedidosPorStatus(Map<StatusPedido, Long> pedidosPorStatus) {
+        this.pedidosPorStatus = pedidosPorStatus;
+    }
+
+    public List<VendasAgrupadasDTO> getVendasPorHora() {
+        return vendasPorHora;
+    }
+
+    public void setVendasPorHora(List<VendasAgrupadasDTO> vendasPorHora) {
+        this.vendasPorHora = vendasPorHora;
+    }
+
+    public List<VendasAgrupadasDTO> getVendasPorMesa() {
+        return vendasPorMesa;
+    }
+
+    public void setVendasPorMesa(List<VendasAgrupadasDTO> vendasPorMesa) {
+        this.vendasPorMesa = vendasPorMesa;
+    }
+
+    public List<VendasAgrupadasDTO> getVendasPorUsuario() {
+        return vendasPorUsuario;
+    }
+
+    public void setVendasPorUsuario(List<VendasAgrupadasDTO> vendasPorUsuario) {
+        this.vendasPorUsuario = vendasPorUsuario;
+    }
 }
@@ -0,0 +1,27 @@
+package com.synclink.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Tempos de permanência por status e de preparo por categoria, na janela móvel")
+public class IndicadoresCozinhaDTO {
+
+    @Schema(description = "Momento do cálculo")
+    private LocalDateTime geradoEm;
+
+    @Schema(description = "Tamanho da janela móvel, em minutos", example = "30")
+    private Long janelaMinutos;
+
+    @Schema(description = "Tempo que os pedidos ficaram em cada status (ABERTO, EM_PREPARO, PRONTO...)")
+    private List<TempoCozinhaDTO> porStatus;
+
+    @Schema(description = "Tempo de preparo (EM_PREPARO até a próxima etapa) por categoria dos itens")
+    private List<TempoCozinhaDTO> porCategoria;
+}
@@ -0,0 +1,59 @@
+package com.synclink.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Página obtida por cursor (data de criação + ID), ordenada do mais recente para o mais antigo")
+public class PaginaCursorDTO<T> {
+
+    @Schema(description = "Registros da página")
+    private List<T> itens;
+
+    @Schema(description = "Data de criação do último registro, usada como cursor da próxima página")
+    private LocalDateTime proximaData;
+
+    @Schema(description = "ID do último registro, usado como cursor da próxima página")
+    private Long proximoId;
+
+    @Schema(description = "Indica se existem registros após esta página")
+    private boolean temMais;
+
+    public List<T> getItens() {
+        return itens;
+    }
+
+    public void setItens(List<T> itens) {
+        this.itens = itens;
+    }
+
+    public LocalDateTime getProximaData() {
+        return proximaData;
+    }
+
+    public void setProximaData(LocalDateTime proximaData) {
+        this.proximaData = proximaData;
+    }
+
+    public Long getProximoId() {
+        return proximoId;
+    }
+
+    public void setProximoId(Long proximoId) {
+        this.proximoId = proximoId;
+    }
+
+    public boolean isTemMais() {
+        return temMais;
+    }
+
+    public void setTemMais(boolean temMais) {
+        this.temMais = temMais;
+    }
+}
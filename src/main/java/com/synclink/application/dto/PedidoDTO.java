@@ -47,6 +47,9 @@ public class PedidoDTO {
 
     private List<ItemPedidoDTO> itens;
 
+    @Schema(description = "Versão do pedido; cresce a cada alteração e serve de base para as mensagens PEDIDO_DELTA")
+    private Long versao;
+
     public Long getId() {
         return id;
     }
@@ -190,4 +193,12 @@ public class PedidoDTO {
     public void setItens(List<ItemPedidoDTO> itens) {
         this.itens = itens;
     }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
 }
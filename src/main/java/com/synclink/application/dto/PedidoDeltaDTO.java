@@ -0,0 +1,82 @@
+package com.synclink.application.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Alterações de um pedido em relação à versão anterior (mensagem PEDIDO_DELTA)")
+public class PedidoDeltaDTO {
+
+    @Schema(description = "ID do pedido", example = "42")
+    private Long pedidoId;
+
+    @Schema(description = "Versão do pedido após aplicar as alterações", example = "8")
+    private Long versao;
+
+    @Schema(description = "Versão sobre a qual as alterações se aplicam; se diferente da versão local, o cliente deve ressincronizar", example = "7")
+    private Long versaoBase;
+
+    @Schema(description = "Campos do pedido (exceto itens) que mudaram, com o novo valor")
+    private Map<String, JsonNode> alteracoes;
+
+    @Schema(description = "Itens novos ou alterados, completos")
+    private List<JsonNode> itensAlterados;
+
+    @Schema(description = "IDs dos itens removidos")
+    private List<Long> itensRemovidos;
+
+    public Long getPedidoId() {
+        return pedidoId;
+    }
+
+    public void setPedidoId(Long pedidoId) {
+        this.pedidoId = pedidoId;
+    }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
+
+    public Long getVersaoBase() {
+        return versaoBase;
+    }
+
+    public void setVersaoBase(Long versaoBase) {
+        this.versaoBase = versaoBase;
+    }
+
+    public Map<String, JsonNode> getAlteracoes() {
+        return alteracoes;
+    }
+
+    public void setAlteracoes(Map<String, JsonNode> alteracoes) {
+        this.alteracoes = alteracoes;
+    }
+
+    public List<JsonNode> getItensAlterados() {
+        return itensAlterados;
+    }
+
+    public void setItensAlterados(List<JsonNode> itensAlterados) {
+        this.itensAlterados = itensAlterados;
+    }
+
+    public List<Long> getItensRemovidos() {
+        return itensRemovidos;
+    }
+
+    public void setItensRemovidos(List<Long> itensRemovidos) {
+        this.itensRemovidos = itensRemovidos;
+    }
+}
@@ -0,0 +1,33 @@
+package com.synclink.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Totais consolidados de um dia por status, forma de pagamento e usuário")
+public class ResumoVendaDiariaDTO {
+
+    @Schema(description = "Dia de referência", example = "2025-01-31")
+    private LocalDate dia;
+
+    @Schema(description = "Status do pedido (FECHADO/CANCELADO) ou do pagamento (APROVADO/ESTORNADO)", example = "FECHADO")
+    private String status;
+
+    @Schema(description = "Forma de pagamento (NAO_INFORMADA para linhas de pedido)", example = "PIX")
+    private String formaPagamento;
+
+    @Schema(description = "ID do usuário responsável pelo pedido")
+    private Long usuarioId;
+
+    @Schema(description = "Quantidade de pedidos ou pagamentos")
+    private Long quantidade;
+
+    @Schema(description = "Valor total acumulado")
+    private BigDecimal valorTotal;
+}
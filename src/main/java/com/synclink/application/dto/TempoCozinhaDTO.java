@@ -0,0 +1,27 @@
+package com.synclink.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Tempos de um status ou de uma categoria na janela móvel da cozinha")
+public class TempoCozinhaDTO {
+
+    @Schema(description = "Status do pedido ou nome da categoria", example = "EM_PREPARO")
+    private String chave;
+
+    @Schema(description = "Quantidade de pedidos medidos na janela")
+    private Integer amostras;
+
+    @Schema(description = "Mediana do tempo, em segundos", example = "420.0")
+    private Double p50Segundos;
+
+    @Schema(description = "Percentil 90 do tempo, em segundos", example = "780.0")
+    private Double p90Segundos;
+
+    @Schema(description = "Pedidos que saíram do status (ou concluíram o preparo da categoria) por minuto", example = "1.5")
+    private Double pedidosPorMinuto;
+}
@@ -0,0 +1,58 @@
+package com.synclink.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Totais de vendas de um agrupamento (hora, mesa ou garçom)")
+public class VendasAgrupadasDTO {
+
+    @Schema(description = "Identificador do agrupamento (hora do dia, ID da mesa ou ID do usuário)", example = "20")
+    private Long id;
+
+    @Schema(description = "Descrição do agrupamento", example = "Mesa 5")
+    private String descricao;
+
+    @Schema(description = "Quantidade de pedidos no agrupamento")
+    private Long quantidadePedidos;
+
+    @Schema(description = "Valor total vendido no agrupamento")
+    private BigDecimal totalVendas;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public void setDescricao(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public Long getQuantidadePedidos() {
+        return quantidadePedidos;
+    }
+
+    public void setQuantidadePedidos(Long quantidadePedidos) {
+        this.quantidadePedidos = quantidadePedidos;
+    }
+
+    public BigDecimal getTotalVendas() {
+        return totalVendas;
+    }
+
+    public void setTotalVendas(BigDecimal totalVendas) {
+        this.totalVendas = totalVendas;
+    }
+}
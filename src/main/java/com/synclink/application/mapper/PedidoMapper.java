@@ -19,10 +19,12 @@ public interface PedidoMapper {
     PedidoDTO toDto(Pedido pedido);
 
     @InheritInverseConfiguration
+    @Mapping(target = "versao", ignore = true)
     Pedido toEntity(PedidoDTO pedidoDTO);
 
     List<PedidoDTO> toDtoList(List<Pedido> pedidos);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "versao", ignore = true)
     void updateEntityFromDto(PedidoDTO dto, @MappingTarget Pedido pedido);
 }
@@ -0,0 +1,15 @@
+package com.synclink.application.mapper;
+
+import com.synclink.application.dto.ResumoVendaDiariaDTO;
+import com.synclink.model.ResumoVendaDiaria;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface ResumoVendaDiariaMapper {
+
+    ResumoVendaDiariaDTO toDto(ResumoVendaDiaria resumo);
+
+    List<ResumoVendaDiariaDTO> toDtoList(List<ResumoVendaDiaria> resumos);
+}
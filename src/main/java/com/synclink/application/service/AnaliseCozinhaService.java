@@ -0,0 +1,9 @@
+package com.synclink.application.service;
+
+import com.synclink.application.dto.IndicadoresCozinhaDTO;
+
+public interface AnaliseCozinhaService {
+
+    // Consulta
+    IndicadoresCozinhaDTO obterIndicadores();
+}
@@ -4,13 +4,17 @@ import com.synclink.application.dto.auth.AuthRequest;
 import com.synclink.application.dto.auth.AuthResponse;
 import com.synclink.domain.repository.UsuarioRepository;
 import com.synclink.infrastructure.security.JwtService;
+import com.synclink.infrastructure.security.PrincipalCache;
+import com.synclink.infrastructure.security.UsuarioAutenticado;
 import com.synclink.model.Usuario;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -19,11 +23,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class AuthService implements UserDetailsService {
+public class AuthService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UsuarioRepository usuarioRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final ApplicationEventPublisher eventPublisher;
 
 
 
@@ -54,12 +59,17 @@ public class AuthService implements UserDetailsService {
     }
 
 
+    // O principal das requisições com JWT é um UsuarioAutenticado em cache; a entidade é lida da sessão atual
     public Usuario getCurrentUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        if (authentication != null && authentication.getPrincipal() instanceof Usuario) {
-            return (Usuario) authentication.getPrincipal();
+        if (authentication == null) {
+            return null;
         }
-        return null;
+        return switch (authentication.getPrincipal()) {
+            case UsuarioAutenticado usuario -> usuarioRepository.findById(usuario.id()).orElse(null);
+            case Usuario usuario -> usuario;
+            case null, default -> null;
+        };
     }
 
     @Override
@@ -69,6 +79,21 @@ public class AuthService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + email));
     }
 
+    /**
+     * Chamado pelo DaoAuthenticationProvider após um login válido quando o hash
+     * armazenado usa um custo diferente do configurado (rehash transparente).
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Usuario usuario = usuarioRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + user.getUsername()));
+        usuario.setSenha(newPassword);
+        usuarioRepository.save(usuario);
+        eventPublisher.publishEvent(new PrincipalCache.UsuarioAlterado(usuario.getEmail()));
+        return usuario;
+    }
+
     public boolean existsByEmail(String email) {
         return usuarioRepository.existsByEmail(email);
     }
@@ -86,6 +111,7 @@ public class AuthService implements UserDetailsService {
 
         currentUser.setSenha(passwordEncoder.encode(newPassword));
         usuarioRepository.save(currentUser);
+        eventPublisher.publishEvent(new PrincipalCache.UsuarioAlterado(currentUser.getEmail()));
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,18 @@
+package com.synclink.application.service;
+
+public interface CardapioService {
+
+    // Snapshot serializado do cardápio (JSON compacto + gzip) e a versão (hash do conteúdo) usada na ETag
+    record Snapshot(byte[] json, byte[] gzip, String versao) {
+    }
+
+    // Evento publicado por produtos/categorias; o snapshot é descartado após o commit
+    record CatalogoAlterado() {
+    }
+
+    // Consulta
+    Snapshot obterSnapshot();
+
+    // Invalidação
+    void invalidar();
+}
@@ -1,6 +1,8 @@
 package com.synclink.application.service;
 
 import com.synclink.application.dto.ComandaDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
@@ -14,6 +16,8 @@ public interface ComandaService {
 
     ComandaDTO findById(Long id);
 
+    Page<ComandaDTO> findAll(Pageable pageable);
+
     ComandaDTO findByCodigo(String codigo);
 
     List<ComandaDTO> findByMesaId(Long mesaId);
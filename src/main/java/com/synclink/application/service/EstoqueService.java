@@ -1,11 +1,15 @@
 package com.synclink.application.service;
 
 import com.synclink.application.dto.EstoqueDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import java.util.List;
 
 public interface EstoqueService {
 
     List<EstoqueDTO> findAll();
+    Page<EstoqueDTO> findAll(Pageable pageable);
     EstoqueDTO findById(Long id);
     EstoqueDTO create(EstoqueDTO estoqueDTO);
     EstoqueDTO update(Long id, EstoqueDTO estoqueDTO);
@@ -14,4 +18,11 @@ public interface EstoqueService {
     List<EstoqueDTO> findPrecisaRepor();
     EstoqueDTO adicionarQuantidade(Long id, Integer quantidade);
     EstoqueDTO removerQuantidade(Long id, Integer quantidade);
+
+    // Reservas vinculadas aos itens de pedido
+    void reservar(Long pedidoId, Long itemPedidoId, Long produtoId, Integer quantidade);
+    void liberarReservasItem(Long itemPedidoId);
+    void liberarReservasPedido(Long pedidoId);
+    void confirmarReservasPedido(Long pedidoId);
+    void reativarReservasPedido(Long pedidoId);
 }
\ No newline at end of file
@@ -1,16 +1,22 @@
 package com.synclink.application.service;
 
 import com.synclink.application.dto.PagamentoDTO;
+import com.synclink.application.dto.PaginaCursorDTO;
 import com.synclink.model.enums.FormaPagamento;
 import com.synclink.model.enums.StatusPagamento;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface PagamentoService {
 
     // Métodos básicos de CRUD
     List<PagamentoDTO> findAll();
+    Page<PagamentoDTO> findAll(Pageable pageable);
+    PaginaCursorDTO<PagamentoDTO> findPorCursor(LocalDateTime aposData, Long aposId, int tamanho);
     PagamentoDTO findById(Long id);
     PagamentoDTO create(PagamentoDTO pagamentoDTO);
     PagamentoDTO update(Long id, PagamentoDTO pagamentoDTO);
@@ -0,0 +1,111 @@
+package com.synclink.application.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.synclink.application.dto.PedidoDTO;
+import com.synclink.application.dto.PedidoDeltaDTO;
+import com.synclink.application.dto.WebSocketMessageDTO;
+import com.synclink.model.TiposMensagem;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Calcula as mensagens PEDIDO_DELTA: guarda o último estado publicado de cada pedido
+ * e, a cada nova versão, envia só os campos e itens que mudaram.
+ * Sem estado anterior (primeira publicação, reinício, expiração) o pedido é enviado completo.
+ */
+@Slf4j
+@Service
+public class PedidoDeltaService {
+
+    private static final String CAMPO_ITENS = "itens";
+    private static final String CAMPO_VERSAO = "versao";
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, ObjectNode> ultimosEstados = Caffeine.newBuilder()
+            .maximumSize(5_000)
+            .expireAfterAccess(Duration.ofHours(12))
+            .build();
+
+    public PedidoDeltaService(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Retorna a mensagem a publicar para o novo estado do pedido, ou null se esse estado
+     * já foi publicado (mesma versão ou anterior).
+     */
+    public WebSocketMessageDTO proximaMensagem(PedidoDTO pedido, Long usuarioId, Long mesaId) {
+        if (pedido.getId() == null || pedido.getVersao() == null) {
+            return new WebSocketMessageDTO(TiposMensagem.PEDIDO_ATUALIZADO, pedido, usuarioId, mesaId);
+        }
+
+        ObjectNode atual = objectMapper.valueToTree(pedido);
+        AtomicReference<WebSocketMessageDTO> mensagem = new AtomicReference<>();
+
+        ultimosEstados.asMap().compute(pedido.getId(), (id, anterior) -> {
+            if (anterior == null) {
+                mensagem.set(new WebSocketMessageDTO(TiposMensagem.PEDIDO_ATUALIZADO, pedido, usuarioId, mesaId));
+                return atual;
+            }
+            long versaoAnterior = anterior.path(CAMPO_VERSAO).asLong();
+            if (pedido.getVersao() <= versaoAnterior) {
+                return anterior;
+            }
+            mensagem.set(new WebSocketMessageDTO(TiposMensagem.PEDIDO_DELTA,
+                    calcularDelta(id, anterior, atual, versaoAnterior, pedido.getVersao()), usuarioId, mesaId));
+            return atual;
+        });
+
+        return mensagem.get();
+    }
+
+    // Registra um estado enviado completo por outra notificação (ex.: pedido criado ou fechado)
+    public void registrar(PedidoDTO pedido) {
+        if (pedido.getId() != null && pedido.getVersao() != null) {
+            ultimosEstados.put(pedido.getId(), objectMapper.valueToTree(pedido));
+        }
+    }
+
+    // ==============================
+    // MÉTODOS AUXILIARES
+    // ==============================
+    private PedidoDeltaDTO calcularDelta(Long pedidoId, ObjectNode anterior, ObjectNode atual,
+                                         long versaoBase, long versao) {
+        Map<String, JsonNode> alteracoes = new LinkedHashMap<>();
+        atual.fields().forEachRemaining(campo -> {
+            String nome = campo.getKey();
+            if (!CAMPO_ITENS.equals(nome) && !CAMPO_VERSAO.equals(nome)
+                    && !Objects.equals(anterior.get(nome), campo.getValue())) {
+                alteracoes.put(nome, campo.getValue());
+            }
+        });
+
+        Map<Long, JsonNode> itensAnteriores = new HashMap<>();
+        anterior.path(CAMPO_ITENS).forEach(item -> itensAnteriores.put(item.path("id").asLong(), item));
+
+        List<JsonNode> itensAlterados = new ArrayList<>();
+        atual.path(CAMPO_ITENS).forEach(item -> {
+            JsonNode itemAnterior = itensAnteriores.remove(item.path("id").asLong());
+            if (!item.equals(itemAnterior)) {
+                itensAlterados.add(item);
+            }
+        });
+
+        return PedidoDeltaDTO.builder()
+                .pedidoId(pedidoId)
+                .versao(versao)
+                .versaoBase(versaoBase)
+                .alteracoes(alteracoes)
+                .itensAlterados(itensAlterados)
+                .itensRemovidos(new ArrayList<>(itensAnteriores.keySet()))
+                .build();
+    }
+}
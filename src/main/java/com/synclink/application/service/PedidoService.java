@@ -4,14 +4,19 @@ package com.synclink.application.service;
 
 import com.synclink.application.dto.*;
 import com.synclink.model.enums.StatusPedido;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface PedidoService {
 
     // Métodos básicos de CRUD
     List<PedidoDTO> findAll();
+    Page<PedidoDTO> findAll(Pageable pageable);
+    PaginaCursorDTO<PedidoDTO> findPorCursor(LocalDateTime aposData, Long aposId, int tamanho);
     PedidoDTO findById(Long id);
     PedidoDTO create(CreatePedidoDTO createPedidoDTO, Long usuarioId);
     PedidoDTO update(Long id, PedidoDTO pedidoDTO);
@@ -48,6 +53,6 @@ public interface PedidoService {
     List<PedidoResumidoDTO> findResumoVendasDiarias(String data);
 
     // Estatísticas
+    // totalVendas soma os pedidos não cancelados do período, inclusive os ainda abertos
     EstatisticasPedidosDTO obterEstatisticas(String dataInicio, String dataFim);
-    BigDecimal calcularTotalVendasPeriodo(String dataInicio, String dataFim);
 }
\ No newline at end of file
@@ -1,11 +1,15 @@
 package com.synclink.application.service;
 
 import com.synclink.application.dto.ProdutoDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import java.util.List;
 
 public interface ProdutoService {
 
     List<ProdutoDTO> findAll();
+    Page<ProdutoDTO> findAll(Pageable pageable);
     ProdutoDTO findById(Long id);
     ProdutoDTO create(ProdutoDTO produtoDTO);
     ProdutoDTO update(Long id, ProdutoDTO produtoDTO);
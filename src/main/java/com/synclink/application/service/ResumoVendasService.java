@@ -0,0 +1,25 @@
+package com.synclink.application.service;
+
+import com.synclink.application.dto.ResumoVendaDiariaDTO;
+import com.synclink.model.Pagamento;
+import com.synclink.model.Pedido;
+import com.synclink.model.enums.StatusPagamento;
+import com.synclink.model.enums.StatusPedido;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ResumoVendasService {
+
+    // Atualização incremental (chamada na mesma transação da mudança de status)
+    void registrarTransicaoPedido(Pedido pedido, StatusPedido statusAnterior, BigDecimal valorAnterior);
+    void registrarTransicaoPagamento(Pagamento pagamento, StatusPagamento statusAnterior);
+
+    // Consultas
+    List<ResumoVendaDiariaDTO> findPorPeriodo(String dataInicio, String dataFim);
+    BigDecimal calcularTotalVendas(LocalDate inicio, LocalDate fim);
+
+    // Reconstrução (backfill)
+    void reconstruir(LocalDate inicio, LocalDate fim);
+}
@@ -1,11 +1,15 @@
 package com.synclink.application.service;
 
 import com.synclink.application.dto.UsuarioDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
 import java.util.List;
 
 public interface UsuarioService {
 
     List<UsuarioDTO> findAll();
+    Page<UsuarioDTO> findAll(Pageable pageable);
     UsuarioDTO findById(Long id);
     UsuarioDTO create(UsuarioDTO usuarioDTO);
     UsuarioDTO update(Long id, UsuarioDTO usuarioDTO);
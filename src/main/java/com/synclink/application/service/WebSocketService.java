@@ -2,38 +2,77 @@ package com.synclink.application.service;
 
 import com.synclink.model.TiposMensagem;
 import com.synclink.application.dto.WebSocketMessageDTO;
+import com.synclink.application.dto.MesaDTO;
+import com.synclink.application.dto.PedidoDTO;
+import com.synclink.application.mapper.PedidoMapper;
+import com.synclink.infrastructure.persistence.AposCommit;
+import com.synclink.infrastructure.security.UsuarioAutenticado;
+import com.synclink.infrastructure.websocket.UsuarioWebSocket;
+import com.synclink.infrastructure.websocket.WebSocketDispatcher;
+import com.synclink.model.Mesa;
+import com.synclink.model.Pedido;
+import com.synclink.model.Usuario;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class WebSocketService {
 
-    private final SimpMessagingTemplate messagingTemplate;
-    private final AuthService authService;
+    private final WebSocketDispatcher dispatcher;
+    private final PedidoDeltaService pedidoDeltaService;
+    private final PedidoMapper pedidoMapper;
 
     // ============================================================
     // 🔹 MÉTODOS BÁSICOS DE ENVIO
     // ============================================================
 
     public void enviarParaTodos(String destino, WebSocketMessageDTO mensagem) {
+        enviarParaTodos(mensagem, destino);
+    }
+
+    // Serializa uma única vez e envia o mesmo payload para todos os destinos
+    public void enviarParaTodos(WebSocketMessageDTO mensagem, String... destinos) {
+        try {
+            dispatcher.enviar(mensagem, destinos);
+        } catch (Exception e) {
+            log.error("❌ Erro ao enviar mensagem para {}: {}", String.join(", ", destinos), e.getMessage());
+        }
+    }
+
+    // Estado mais recente de um agregado: atualizações em rajada viram um único envio por destino
+    private void enviarAgrupado(String chave, WebSocketMessageDTO mensagem, String... destinos) {
+        if (chave == null) {
+            enviarParaTodos(mensagem, destinos);
+            return;
+        }
         try {
-            messagingTemplate.convertAndSend(destino, mensagem);
-            log.debug("📤 Mensagem enviada para {}: {}", destino, mensagem.getTipo());
+            dispatcher.agrupar(chave, mensagem, destinos);
         } catch (Exception e) {
-            log.error("❌ Erro ao enviar mensagem para {}: {}", destino, e.getMessage());
+            log.error("❌ Erro ao enfileirar mensagem {}: {}", chave, e.getMessage());
+        }
+    }
+
+    // Variante em que a mensagem é montada no envio, a partir do último estado da janela
+    private void enviarAgrupado(String chave, Supplier<WebSocketMessageDTO> mensagem, String... destinos) {
+        try {
+            dispatcher.agrupar(chave, mensagem, destinos);
+        } catch (Exception e) {
+            log.error("❌ Erro ao enfileirar mensagem {}: {}", chave, e.getMessage());
         }
     }
 
     public void enviarParaUsuario(String usuario, String destino, WebSocketMessageDTO mensagem) {
         try {
-            messagingTemplate.convertAndSendToUser(usuario, destino, mensagem);
+            dispatcher.enviarParaUsuario(usuario, destino, mensagem);
             log.debug("📤 Mensagem enviada para usuário {} em {}: {}", usuario, destino, mensagem.getTipo());
         } catch (Exception e) {
             log.error("❌ Erro ao enviar mensagem para usuário {}: {}", usuario, e.getMessage());
@@ -44,30 +83,48 @@ public class WebSocketService {
     // 🔹 NOTIFICAÇÕES ESPECÍFICAS DO SISTEMA
     // ============================================================
 
+    // Notificações de pedido: o estado é lido na chamada (o pedido já deve ter passado por flush,
+    // para sair com a versão gravada) e só é publicado depois do commit da transação atual
+
     public void notificarPedidoCriado(Object pedidoDTO, Long mesaId) {
         Long usuarioId = obterUsuarioIdAtual();
+        PedidoDTO pedido = comoPedidoDTO(pedidoDTO);
         WebSocketMessageDTO mensagem = new WebSocketMessageDTO(
                 TiposMensagem.PEDIDO_CRIADO,
-                pedidoDTO,
+                pedido != null ? pedido : pedidoDTO,
                 usuarioId,
                 mesaId
         );
-        enviarParaTodos("/topic/pedidos", mensagem);
-        enviarParaTodos("/topic/mesas", mensagem);
-        log.info("🚀 Notificação: Pedido criado - Mesa {}", mesaId);
+        AposCommit.executar(() -> {
+            enviarParaTodos(mensagem, "/topic/pedidos", "/topic/mesas");
+            if (pedido != null) {
+                pedidoDeltaService.registrar(pedido);
+            }
+            log.debug("🚀 Notificação: Pedido criado - Mesa {}", mesaId);
+        });
     }
 
     public void notificarPedidoAtualizado(Object pedidoDTO, Long mesaId) {
         Long usuarioId = obterUsuarioIdAtual();
-        WebSocketMessageDTO mensagem = new WebSocketMessageDTO(
-                TiposMensagem.PEDIDO_ATUALIZADO,
-                pedidoDTO,
-                usuarioId,
-                mesaId
-        );
-        enviarParaTodos("/topic/pedidos", mensagem);
-        enviarParaTodos("/topic/mesa." + mesaId, mensagem);
-        log.info("🔄 Notificação: Pedido atualizado - Mesa {}", mesaId);
+        PedidoDTO pedido = comoPedidoDTO(pedidoDTO);
+
+        AposCommit.executar(() -> {
+            if (pedido != null && pedido.getId() != null) {
+                // Versionado: envia só o que mudou desde o último estado publicado (PEDIDO_DELTA)
+                enviarAgrupado("pedido:" + pedido.getId(),
+                        () -> pedidoDeltaService.proximaMensagem(pedido, usuarioId, mesaId),
+                        "/topic/pedidos", "/topic/mesa." + mesaId);
+            } else {
+                WebSocketMessageDTO mensagem = new WebSocketMessageDTO(
+                        TiposMensagem.PEDIDO_ATUALIZADO,
+                        pedidoDTO,
+                        usuarioId,
+                        mesaId
+                );
+                enviarParaTodos(mensagem, "/topic/pedidos", "/topic/mesa." + mesaId);
+            }
+            log.debug("🔄 Notificação: Pedido atualizado - Mesa {}", mesaId);
+        });
     }
 
     public void notificarItemAdicionado(Object itemDTO, Long pedidoId, Long mesaId) {
@@ -78,24 +135,26 @@ public class WebSocketService {
                 usuarioId,
                 mesaId
         );
-        enviarParaTodos("/topic/pedidos", mensagem);
-        enviarParaTodos("/topic/mesa." + mesaId, mensagem);
-        enviarParaTodos("/topic/cozinha", mensagem);
-        log.info("➕ Notificação: Item adicionado - Pedido {}", pedidoId);
+        enviarParaTodos(mensagem, "/topic/pedidos", "/topic/mesa." + mesaId, "/topic/cozinha");
+        log.debug("➕ Notificação: Item adicionado - Pedido {}", pedidoId);
     }
 
     public void notificarPedidoFechado(Object pedidoDTO, Long mesaId) {
         Long usuarioId = obterUsuarioIdAtual();
+        PedidoDTO pedido = comoPedidoDTO(pedidoDTO);
         WebSocketMessageDTO mensagem = new WebSocketMessageDTO(
                 TiposMensagem.PEDIDO_FECHADO,
-                pedidoDTO,
+                pedido != null ? pedido : pedidoDTO,
                 usuarioId,
                 mesaId
         );
-        enviarParaTodos("/topic/pedidos", mensagem);
-        enviarParaTodos("/topic/mesas", mensagem);
-        enviarParaTodos("/topic/caixa", mensagem);
-        log.info("💰 Notificação: Pedido fechado - Mesa {}", mesaId);
+        AposCommit.executar(() -> {
+            enviarParaTodos(mensagem, "/topic/pedidos", "/topic/mesas", "/topic/caixa");
+            if (pedido != null) {
+                pedidoDeltaService.registrar(pedido);
+            }
+            log.debug("💰 Notificação: Pedido fechado - Mesa {}", mesaId);
+        });
     }
 
     public void notificarMesaAtualizada(Object mesaDTO) {
@@ -105,8 +164,8 @@ public class WebSocketService {
                 mesaDTO,
                 usuarioId
         );
-        enviarParaTodos("/topic/mesas", mensagem);
-        log.info("🪑 Notificação: Mesa atualizada");
+        enviarAgrupado(chaveAgregado("mesa", mesaDTO), mensagem, "/topic/mesas");
+        log.debug("🪑 Notificação: Mesa atualizada");
     }
 
     public void notificarCozinha(Object pedidoDTO) {
@@ -116,8 +175,8 @@ public class WebSocketService {
                 pedidoDTO,
                 usuarioId
         );
-        enviarParaTodos("/topic/cozinha", mensagem);
-        log.info("👨‍🍳 Notificação: Acionamento cozinha");
+        enviarParaTodos(mensagem, "/topic/cozinha");
+        log.debug("👨‍🍳 Notificação: Acionamento cozinha");
     }
 
     public void notificarPagamentoProcessado(Object pagamentoDTO, Long pedidoId) {
@@ -127,9 +186,8 @@ public class WebSocketService {
                 pagamentoDTO,
                 usuarioId
         );
-        enviarParaTodos("/topic/pagamentos", mensagem);
-        enviarParaTodos("/topic/caixa", mensagem);
-        log.info("💳 Notificação: Pagamento processado - Pedido {}", pedidoId);
+        enviarParaTodos(mensagem, "/topic/pagamentos", "/topic/caixa");
+        log.debug("💳 Notificação: Pagamento processado - Pedido {}", pedidoId);
     }
 
     public void notificarComandaAberta(Object comandaDTO, Long mesaId) {
@@ -140,9 +198,8 @@ public class WebSocketService {
                 usuarioId,
                 mesaId
         );
-        enviarParaTodos("/topic/comandas", mensagem);
-        enviarParaTodos("/topic/mesas", mensagem);
-        log.info("📋 Notificação: Comanda aberta - Mesa {}", mesaId);
+        enviarParaTodos(mensagem, "/topic/comandas", "/topic/mesas");
+        log.debug("📋 Notificação: Comanda aberta - Mesa {}", mesaId);
     }
 
     public void notificarComandaFechada(Object comandaDTO, Long mesaId) {
@@ -153,10 +210,8 @@ public class WebSocketService {
                 usuarioId,
                 mesaId
         );
-        enviarParaTodos("/topic/comandas", mensagem);
-        enviarParaTodos("/topic/mesas", mensagem);
-        enviarParaTodos("/topic/caixa", mensagem);
-        log.info("📋 Notificação: Comanda fechada - Mesa {}", mesaId);
+        enviarParaTodos(mensagem, "/topic/comandas", "/topic/mesas", "/topic/caixa");
+        log.debug("📋 Notificação: Comanda fechada - Mesa {}", mesaId);
     }
 
     // ============================================================
@@ -178,7 +233,7 @@ public class WebSocketService {
                 usuarioId
         );
 
-        enviarParaTodos("/topic/system.alertas", alerta);
+        enviarParaTodos(alerta, "/topic/system.alertas");
         log.warn("🚨 Alerta do sistema: {} - {}", tipoAlerta, mensagem);
     }
 
@@ -189,8 +244,7 @@ public class WebSocketService {
                 estoqueDTO,
                 usuarioId
         );
-        enviarParaTodos("/topic/estoque", mensagem);
-        enviarParaTodos("/topic/gerente", mensagem);
+        enviarParaTodos(mensagem, "/topic/estoque", "/topic/gerente");
         log.warn("📦 Notificação: Estoque baixo");
     }
 
@@ -198,14 +252,35 @@ public class WebSocketService {
     // 🔹 MÉTODOS AUXILIARES
     // ============================================================
 
+    private PedidoDTO comoPedidoDTO(Object dados) {
+        return switch (dados) {
+            case PedidoDTO pedido -> pedido;
+            case Pedido pedido -> pedidoMapper.toDto(pedido);
+            case null, default -> null;
+        };
+    }
+
+    private String chaveAgregado(String tipo, Object dados) {
+        Long id = switch (dados) {
+            case MesaDTO mesa -> mesa.getId();
+            case Mesa mesa -> mesa.getId();
+            case null, default -> null;
+        };
+        return id != null ? tipo + ":" + id : null;
+    }
+
+    // Lido do principal já autenticado (requisição HTTP ou sessão STOMP), sem acesso ao banco
     private Long obterUsuarioIdAtual() {
-        try {
-            var usuario = authService.getCurrentUser();
-            return usuario != null ? usuario.getId() : null;
-        } catch (Exception e) {
-            log.debug("Não foi possível obter ID do usuário atual: {}", e.getMessage());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
             return null;
         }
+        return switch (authentication.getPrincipal()) {
+            case UsuarioAutenticado usuario -> usuario.id();
+            case Usuario usuario -> usuario.getId();
+            case UsuarioWebSocket usuario -> usuario.id();
+            case null, default -> null;
+        };
     }
 
     // ============================================================
@@ -215,7 +290,7 @@ public class WebSocketService {
     public void enviarParaGrupo(String grupo, String destino, WebSocketMessageDTO mensagem) {
         try {
             // Para grupos específicos (ex: todos os garçons, todos da cozinha)
-            enviarParaTodos("/topic/grupo." + grupo + "." + destino, mensagem);
+            enviarParaTodos(mensagem, "/topic/grupo." + grupo + "." + destino);
             log.debug("📤 Mensagem enviada para grupo {} em {}: {}", grupo, destino, mensagem.getTipo());
         } catch (Exception e) {
             log.error("❌ Erro ao enviar mensagem para grupo {}: {}", grupo, e.getMessage());
@@ -225,7 +300,7 @@ public class WebSocketService {
     public void enviarParaPerfil(String perfil, String destino, WebSocketMessageDTO mensagem) {
         try {
             // Para perfis específicos (ex: todos os usuários com perfil GARCOM)
-            enviarParaTodos("/topic/perfil." + perfil + "." + destino, mensagem);
+            enviarParaTodos(mensagem, "/topic/perfil." + perfil + "." + destino);
             log.debug("📤 Mensagem enviada para perfil {} em {}: {}", perfil, destino, mensagem.getTipo());
         } catch (Exception e) {
             log.error("❌ Erro ao enviar mensagem para perfil {}: {}", perfil, e.getMessage());
@@ -0,0 +1,98 @@
+package com.synclink.application.service.impl;
+
+import com.synclink.application.dto.IndicadoresCozinhaDTO;
+import com.synclink.application.dto.TempoCozinhaDTO;
+import com.synclink.application.dto.WebSocketMessageDTO;
+import com.synclink.application.service.AnaliseCozinhaService;
+import com.synclink.application.service.WebSocketService;
+import com.synclink.domain.repository.TransicaoStatusPedidoRepository;
+import com.synclink.domain.repository.projection.TempoCozinhaProjection;
+import com.synclink.model.TiposMensagem;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tempos da cozinha numa janela móvel, calculados a partir de transicoes_status_pedido:
+ * permanência por status e tempo de preparo por categoria. Como o histórico é gravado por todos os nós,
+ * qualquer instância enxerga as transições das demais. O painel é publicado em /topic/cozinha quando muda;
+ * cada nó compara com o que ele mesmo publicou por último, pois no broker simples só alcança os próprios clientes.
+ */
+@Slf4j
+@Service
+public class AnaliseCozinhaServiceImpl implements AnaliseCozinhaService {
+
+    private final WebSocketService webSocketService;
+    private final TransicaoStatusPedidoRepository transicaoRepository;
+    private final long janelaMinutos;
+
+    // Conteúdo do último painel publicado por este nó (sem o instante do cálculo)
+    private volatile List<List<TempoCozinhaDTO>> ultimoPublicado = List.of(List.of(), List.of());
+
+    public AnaliseCozinhaServiceImpl(WebSocketService webSocketService,
+                                     TransicaoStatusPedidoRepository transicaoRepository,
+                                     @Value("${sync.cozinha.indicadores.janela-minutos:30}") long janelaMinutos) {
+        this.webSocketService = webSocketService;
+        this.transicaoRepository = transicaoRepository;
+        this.janelaMinutos = Math.max(1, janelaMinutos);
+    }
+
+    // ==============================
+    // CONSULTA
+    // ==============================
+    @Override
+    @Transactional(readOnly = true)
+    public IndicadoresCozinhaDTO obterIndicadores() {
+        LocalDateTime agora = LocalDateTime.now();
+        LocalDateTime desde = agora.minusMinutes(janelaMinutos);
+        return IndicadoresCozinhaDTO.builder()
+                .geradoEm(agora)
+                .janelaMinutos(janelaMinutos)
+                .porStatus(resumir(transicaoRepository.temposPorStatus(desde)))
+                .porCategoria(resumir(transicaoRepository.temposPreparoPorCategoria(desde)))
+                .build();
+    }
+
+    // ==============================
+    // PUBLICAÇÃO
+    // ==============================
+    @Scheduled(fixedDelayString = "${sync.cozinha.indicadores.intervalo-publicacao-ms:5000}")
+    public void publicarIndicadores() {
+        IndicadoresCozinhaDTO indicadores = obterIndicadores();
+        List<List<TempoCozinhaDTO>> conteudo = List.of(indicadores.getPorStatus(), indicadores.getPorCategoria());
+        // Sem transições novas nem expiradas desde a última publicação, não há o que enviar
+        if (conteudo.equals(ultimoPublicado)) {
+            return;
+        }
+
+        ultimoPublicado = conteudo;
+        webSocketService.enviarParaTodos("/topic/cozinha",
+                new WebSocketMessageDTO(TiposMensagem.INDICADORES_COZINHA, indicadores, null));
+        log.debug("⏱️ Indicadores da cozinha publicados ({} status, {} categorias)",
+                indicadores.getPorStatus().size(), indicadores.getPorCategoria().size());
+    }
+
+    // ==============================
+    // MÉTODOS AUXILIARES
+    // ==============================
+    private List<TempoCozinhaDTO> resumir(List<TempoCozinhaProjection> linhas) {
+        return linhas.stream()
+                .map(linha -> TempoCozinhaDTO.builder()
+                        .chave(linha.getChave())
+                        .amostras(linha.getAmostras().intValue())
+                        .p50Segundos(linha.getP50Ms() / 1000.0)
+                        .p90Segundos(linha.getP90Ms() / 1000.0)
+                        .pedidosPorMinuto(linha.getAmostras() / (double) janelaMinutos)
+                        .build())
+                .sorted(Comparator.comparing(TempoCozinhaDTO::getP90Segundos).reversed()
+                        .thenComparing(TempoCozinhaDTO::getChave))
+                .toList();
+    }
+}
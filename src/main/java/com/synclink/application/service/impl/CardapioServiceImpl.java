@@ -0,0 +1,152 @@
+package com.synclink.application.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.synclink.application.dto.CardapioCategoriaDTO;
+import com.synclink.application.dto.CardapioDTO;
+import com.synclink.application.dto.ProdutoDTO;
+import com.synclink.application.mapper.ProdutoMapper;
+import com.synclink.application.service.CardapioService;
+import com.synclink.domain.repository.CategoriaRepository;
+import com.synclink.domain.repository.ProdutoRepository;
+import com.synclink.model.Categoria;
+import com.synclink.model.Produto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@Service
+public class CardapioServiceImpl implements CardapioService {
+
+    private final CategoriaRepository categoriaRepository;
+    private final ProdutoRepository produtoRepository;
+    private final ProdutoMapper produtoMapper;
+    private final ObjectWriter writer;
+
+    // Snapshot guardado junto com a geração lida antes de montá-lo
+    private record Guardado(long geracao, Snapshot snapshot) {
+    }
+
+    // Incrementada a cada invalidação; um snapshot de geração anterior nunca é servido do cache,
+    // mesmo que a invalidação aconteça entre a montagem e a gravação
+    private final AtomicLong geracao = new AtomicLong();
+    private volatile Guardado guardado;
+
+    public CardapioServiceImpl(CategoriaRepository categoriaRepository,
+                               ProdutoRepository produtoRepository,
+                               ProdutoMapper produtoMapper,
+                               ObjectMapper objectMapper) {
+        this.categoriaRepository = categoriaRepository;
+        this.produtoRepository = produtoRepository;
+        this.produtoMapper = produtoMapper;
+        // JSON compacto, independente do indent_output usado nas demais respostas
+        this.writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    // ==============================
+    // CONSULTA
+    // ==============================
+    @Override
+    public Snapshot obterSnapshot() {
+        Guardado atual = guardado;
+        if (atual != null && atual.geracao() == geracao.get()) {
+            return atual.snapshot();
+        }
+        synchronized (this) {
+            atual = guardado;
+            long geracaoInicial = geracao.get();
+            if (atual != null && atual.geracao() == geracaoInicial) {
+                return atual.snapshot();
+            }
+            // Se o catálogo mudar durante a montagem, a geração guardada já nasce vencida
+            Snapshot novo = montarSnapshot();
+            guardado = new Guardado(geracaoInicial, novo);
+            return novo;
+        }
+    }
+
+    // ==============================
+    // INVALIDAÇÃO
+    // ==============================
+    @Override
+    public void invalidar() {
+        geracao.incrementAndGet();
+        log.debug("🍽️ Snapshot do cardápio invalidado");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogoAlterado(CatalogoAlterado event) {
+        invalidar();
+    }
+
+    // ==============================
+    // MÉTODOS AUXILIARES
+    // ==============================
+    private Snapshot montarSnapshot() {
+        Map<Long, List<ProdutoDTO>> produtosPorCategoria = produtoRepository.findByAtivo(true).stream()
+                .filter(p -> p.getCategoria() != null)
+                .sorted(Comparator.comparing(Produto::getNome, String.CASE_INSENSITIVE_ORDER))
+                .collect(Collectors.groupingBy(p -> p.getCategoria().getId(),
+                        Collectors.mapping(produtoMapper::toDto, Collectors.toList())));
+
+        List<CardapioCategoriaDTO> categorias = categoriaRepository.findByAtivo(true).stream()
+                .sorted(Comparator.comparing(Categoria::getNome, String.CASE_INSENSITIVE_ORDER))
+                .map(c -> CardapioCategoriaDTO.builder()
+                        .id(c.getId())
+                        .nome(c.getNome())
+                        .descricao(c.getDescricao())
+                        .produtos(produtosPorCategoria.getOrDefault(c.getId(), List.of()))
+                        .build())
+                .toList();
+
+        CardapioDTO cardapio = CardapioDTO.builder()
+                .categorias(categorias)
+                .build();
+
+        try {
+            byte[] json = writer.writeValueAsBytes(cardapio);
+            Snapshot novo = new Snapshot(json, gzip(json), hash(json));
+            log.info("🍽️ Snapshot do cardápio gerado: {} categorias, {} bytes ({} gzip)",
+                    categorias.size(), json.length, novo.gzip().length);
+            return novo;
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Erro ao serializar o cardápio: " + e.getMessage(), e);
+        }
+    }
+
+    private byte[] gzip(byte[] dados) {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream(dados.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(saida)) {
+            gzip.write(dados);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return saida.toByteArray();
+    }
+
+    // A ETag depende só do conteúdo: reinícios e invalidações sem mudança real mantêm o mesmo valor
+    private String hash(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
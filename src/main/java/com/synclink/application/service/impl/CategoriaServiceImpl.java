@@ -2,10 +2,16 @@ package com.synclink.application.service.impl;
 
 import com.synclink.application.dto.CategoriaDTO;
 import com.synclink.application.mapper.CategoriaMapper;
+import com.synclink.application.service.CardapioService;
 import com.synclink.application.service.CategoriaService;
 import com.synclink.domain.repository.CategoriaRepository;
+import com.synclink.infrastructure.config.CacheConfig;
 import com.synclink.model.Categoria;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +23,7 @@ public class CategoriaServiceImpl implements CategoriaService {
 
     private final CategoriaRepository categoriaRepository;
     private final CategoriaMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -26,6 +33,7 @@ public class CategoriaServiceImpl implements CategoriaService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CATEGORIAS, key = "#id")
     public CategoriaDTO findById(Long id) {
         Categoria categoria = categoriaRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Categoria não encontrada com ID: " + id));
@@ -34,33 +42,52 @@ public class CategoriaServiceImpl implements CategoriaService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.CATEGORIAS_POR_ATIVO, allEntries = true)
     public CategoriaDTO create(CategoriaDTO dto) {
         if (categoriaRepository.existsByNomeIgnoreCase(dto.getNome())) {
             throw new RuntimeException("Já existe uma categoria com este nome");
         }
         Categoria entity = mapper.toEntity(dto);
-        return mapper.toDto(categoriaRepository.save(entity));
+        entity = categoriaRepository.save(entity);
+        eventPublisher.publishEvent(new CardapioService.CatalogoAlterado());
+        return mapper.toDto(entity);
     }
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIAS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIAS_POR_ATIVO, allEntries = true)
+    })
     public CategoriaDTO update(Long id, CategoriaDTO dto) {
         Categoria entity = categoriaRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Categoria não encontrada com ID: " + id));
         mapper.updateEntityFromDto(dto, entity);
-        return mapper.toDto(categoriaRepository.save(entity));
+        entity = categoriaRepository.save(entity);
+        eventPublisher.publishEvent(new CardapioService.CatalogoAlterado());
+        return mapper.toDto(entity);
     }
 
     @Override
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIAS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.CATEGORIAS_POR_ATIVO, allEntries = true),
+            // Os produtos da categoria são removidos em cascata
+            @CacheEvict(cacheNames = CacheConfig.PRODUTOS, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.PRODUTOS_POR_CATEGORIA, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.PRODUTOS_POR_ATIVO, allEntries = true)
+    })
     public void delete(Long id) {
         Categoria entity = categoriaRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Categoria não encontrada com ID: " + id));
         categoriaRepository.delete(entity);
+        eventPublisher.publishEvent(new CardapioService.CatalogoAlterado());
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.CATEGORIAS_POR_ATIVO, key = "#ativo")
     public List<CategoriaDTO> findByAtivo(Boolean ativo) {
         return mapper.toDtoList(categoriaRepository.findByAtivo(ativo));
     }
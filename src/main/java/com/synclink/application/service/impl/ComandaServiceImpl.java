@@ -3,6 +3,7 @@ package com.synclink.application.service.impl;
 import com.synclink.application.dto.ComandaDTO;
 import com.synclink.application.mapper.ComandaMapper;
 import com.synclink.application.service.ComandaService;
+import com.synclink.application.service.PedidoService;
 import com.synclink.application.service.WebSocketService;
 import com.synclink.model.*;
 import com.synclink.domain.repository.ComandaRepository;
@@ -11,8 +12,12 @@ import com.synclink.domain.repository.PedidoRepository;
 import com.synclink.model.enums.StatusComanda;
 import com.synclink.model.enums.StatusMesa;
 import com.synclink.model.enums.StatusPedido;
+import com.synclink.infrastructure.config.MetricasConfig;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,8 +37,10 @@ public class ComandaServiceImpl implements ComandaService {
     private final PedidoRepository pedidoRepository;
     private final ComandaMapper comandaMapper;
     private final WebSocketService webSocketService;
+    private final PedidoService pedidoService;
 
     @Override
+    @Timed(value = MetricasConfig.COMANDA_OPERACAO, extraTags = {MetricasConfig.TAG_OPERACAO, "abrirComanda"})
     public ComandaDTO abrirComanda(Long mesaId) {
         try {
             Mesa mesa = mesaRepository.findById(mesaId)
@@ -82,6 +89,7 @@ public class ComandaServiceImpl implements ComandaService {
     }
 
     @Override
+    @Timed(value = MetricasConfig.COMANDA_OPERACAO, extraTags = {MetricasConfig.TAG_OPERACAO, "fecharComanda"})
     public ComandaDTO fecharComanda(Long comandaId) {
         try {
             Comanda comanda = comandaRepository.findById(comandaId)
@@ -142,6 +150,17 @@ public class ComandaServiceImpl implements ComandaService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ComandaDTO> findAll(Pageable pageable) {
+        try {
+            return comandaRepository.findAll(pageable).map(comandaMapper::toDto);
+        } catch (Exception e) {
+            log.error("Erro ao buscar comandas paginadas", e);
+            throw new RuntimeException("Erro ao buscar comandas: " + e.getMessage());
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public ComandaDTO findByCodigo(String codigo) {
@@ -194,6 +213,7 @@ public class ComandaServiceImpl implements ComandaService {
     }
 
     @Override
+    @Timed(value = MetricasConfig.COMANDA_OPERACAO, extraTags = {MetricasConfig.TAG_OPERACAO, "adicionarPedido"})
     public ComandaDTO adicionarPedido(Long comandaId, Long pedidoId) {
         try {
             Comanda comanda = comandaRepository.findById(comandaId)
@@ -212,7 +232,8 @@ public class ComandaServiceImpl implements ComandaService {
             }
 
             pedido.setComanda(comanda);
-            pedidoRepository.save(pedido);
+            // Flush antes da notificação: o DTO do pedido precisa sair com a versão já incrementada
+            pedidoRepository.saveAndFlush(pedido);
 
             ComandaDTO comandaDTO = comandaMapper.toDto(comanda);
 
@@ -231,6 +252,7 @@ public class ComandaServiceImpl implements ComandaService {
     }
 
     @Override
+    @Timed(value = MetricasConfig.COMANDA_OPERACAO, extraTags = {MetricasConfig.TAG_OPERACAO, "removerPedido"})
     public ComandaDTO removerPedido(Long comandaId, Long pedidoId) {
         try {
             Comanda comanda = comandaRepository.findById(comandaId)
@@ -244,7 +266,7 @@ public class ComandaServiceImpl implements ComandaService {
             }
 
             pedido.setComanda(null);
-            pedidoRepository.save(pedido);
+            pedidoRepository.saveAndFlush(pedido);
 
             ComandaDTO comandaDTO = comandaMapper.toDto(comanda);
 
@@ -263,6 +285,7 @@ public class ComandaServiceImpl implements ComandaService {
     }
 
     @Override
+    @Timed(value = MetricasConfig.COMANDA_OPERACAO, extraTags = {MetricasConfig.TAG_OPERACAO, "cancelarComanda"})
     public ComandaDTO cancelarComanda(Long comandaId, String motivo) {
         try {
             Comanda comanda = comandaRepository.findById(comandaId)
@@ -281,15 +304,14 @@ public class ComandaServiceImpl implements ComandaService {
             mesa.setStatus(StatusMesa.LIVRE);
             mesaRepository.save(mesa);
 
-            // Cancelar todos os pedidos da comanda
-            comanda.getPedidos().forEach(pedido -> {
+            // Cancelar todos os pedidos da comanda pelo mesmo caminho do cancelamento avulso
+            // (resumo, histórico de transições, métrica, estoque e notificação), na transação da comanda
+            String motivoPedido = "comanda " + comanda.getCodigo() + " cancelada: " + motivo;
+            for (Pedido pedido : comanda.getPedidos()) {
                 if (pedido.getStatus() != StatusPedido.FECHADO && pedido.getStatus() != StatusPedido.CANCELADO) {
-                    pedido.setStatus(StatusPedido.CANCELADO);
-                    pedido.setObservacao((pedido.getObservacao() != null ? pedido.getObservacao() + " | " : "") +
-                            "Cancelado junto com a comanda: " + motivo);
-                    pedidoRepository.save(pedido);
+                    pedidoService.cancelarPedido(pedido.getId(), motivoPedido);
                 }
-            });
+            }
 
             ComandaDTO comandaDTO = comandaMapper.toDto(comanda);
 
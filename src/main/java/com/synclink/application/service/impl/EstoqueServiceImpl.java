@@ -4,10 +4,16 @@ import com.synclink.application.dto.EstoqueDTO;
 import com.synclink.application.mapper.EstoqueMapper;
 import com.synclink.application.service.EstoqueService;
 import com.synclink.domain.repository.EstoqueRepository;
+import com.synclink.domain.repository.ReservaEstoqueRepository;
+import com.synclink.domain.repository.projection.SaldoLoteProjection;
 import com.synclink.model.Estoque;
+import com.synclink.model.ReservaEstoque;
+import com.synclink.model.enums.StatusReserva;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +27,7 @@ public class EstoqueServiceImpl implements EstoqueService {
 
     private final EstoqueRepository estoqueRepository;
     private final EstoqueMapper estoqueMapper;
+    private final ReservaEstoqueRepository reservaRepository;
 
     @Override
     @Transactional(readOnly = true)
@@ -28,6 +35,12 @@ public class EstoqueServiceImpl implements EstoqueService {
         return estoqueMapper.toDtoList(estoqueRepository.findAll());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EstoqueDTO> findAll(Pageable pageable) {
+        return estoqueRepository.findAll(pageable).map(estoqueMapper::toDto);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public EstoqueDTO findById(Long id) {
@@ -76,22 +89,106 @@ public class EstoqueServiceImpl implements EstoqueService {
     }
 
     @Override
+    @Transactional
     public EstoqueDTO adicionarQuantidade(Long id, Integer qtd) {
-        Estoque e = estoqueRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Estoque não encontrado com ID: " + id));
-        e.adicionarQuantidade(qtd);
-        e = estoqueRepository.save(e);
+        if (qtd == null || qtd <= 0) throw new IllegalArgumentException("Quantidade inválida para adicionar");
+        if (estoqueRepository.incrementar(id, qtd) == 0)
+            throw new EntityNotFoundException("Estoque não encontrado com ID: " + id);
+
         log.info("{} unidades adicionadas ao estoque ID {}", qtd, id);
-        return estoqueMapper.toDto(e);
+        return findById(id);
     }
 
     @Override
+    @Transactional
     public EstoqueDTO removerQuantidade(Long id, Integer qtd) {
-        Estoque e = estoqueRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Estoque não encontrado com ID: " + id));
-        e.removerQuantidade(qtd);
-        e = estoqueRepository.save(e);
+        if (qtd == null || qtd <= 0) throw new IllegalArgumentException("Quantidade inválida para remover");
+        if (estoqueRepository.decrementar(id, qtd) == 0) {
+            if (!estoqueRepository.existsById(id))
+                throw new EntityNotFoundException("Estoque não encontrado com ID: " + id);
+            throw new IllegalArgumentException("Estoque insuficiente para remoção");
+        }
+
         log.info("{} unidades removidas do estoque ID {}", qtd, id);
-        return estoqueMapper.toDto(e);
+        return findById(id);
+    }
+
+    // ==============================
+    // RESERVAS DE PEDIDO
+    // ==============================
+    @Override
+    @Transactional
+    public void reservar(Long pedidoId, Long itemPedidoId, Long produtoId, Integer quantidade) {
+        if (quantidade == null || quantidade <= 0) return;
+
+        // Produtos sem lote cadastrado não têm controle de estoque
+        if (!estoqueRepository.existsByProdutoId(produtoId)) return;
+
+        int restante = quantidade;
+        for (SaldoLoteProjection lote : estoqueRepository.findDisponiveisPorProduto(produtoId)) {
+            // Outra transação pode baixar o lote depois da leitura; o UPDATE condicional é quem garante a baixa
+            int parcela = Math.min(restante, lote.getQuantidade());
+            if (parcela <= 0 || estoqueRepository.decrementar(lote.getId(), parcela) == 0) continue;
+
+            reservaRepository.save(ReservaEstoque.builder()
+                    .pedidoId(pedidoId)
+                    .itemPedidoId(itemPedidoId)
+                    .estoqueId(lote.getId())
+                    .quantidade(parcela)
+                    .build());
+            restante -= parcela;
+            if (restante == 0) break;
+        }
+
+        if (restante > 0) {
+            // A exceção desfaz as baixas parciais feitas acima junto com a transação
+            throw new IllegalStateException("Estoque insuficiente para o produto ID " + produtoId +
+                    ": faltam " + restante + " unidade(s)");
+        }
+        log.info("📦 {} unidade(s) do produto {} reservadas para o pedido {}", quantidade, produtoId, pedidoId);
+    }
+
+    @Override
+    @Transactional
+    public void liberarReservasItem(Long itemPedidoId) {
+        liberar(reservaRepository.findByItemPedidoIdAndStatus(itemPedidoId, StatusReserva.ATIVA));
+    }
+
+    @Override
+    @Transactional
+    public void liberarReservasPedido(Long pedidoId) {
+        liberar(reservaRepository.findByPedidoIdAndStatus(pedidoId, StatusReserva.ATIVA));
+    }
+
+    @Override
+    @Transactional
+    public void confirmarReservasPedido(Long pedidoId) {
+        List<ReservaEstoque> reservas = reservaRepository.findByPedidoIdAndStatus(pedidoId, StatusReserva.ATIVA);
+        reservas.forEach(r -> {
+            r.setStatus(StatusReserva.CONFIRMADA);
+            r.setDataAtualizacao(LocalDateTime.now());
+        });
+        reservaRepository.saveAll(reservas);
+    }
+
+    // Pedido fechado e reaberto: a baixa confirmada volta a ser reserva e pode ser liberada de novo
+    @Override
+    @Transactional
+    public void reativarReservasPedido(Long pedidoId) {
+        List<ReservaEstoque> reservas = reservaRepository.findByPedidoIdAndStatus(pedidoId, StatusReserva.CONFIRMADA);
+        reservas.forEach(r -> {
+            r.setStatus(StatusReserva.ATIVA);
+            r.setDataAtualizacao(LocalDateTime.now());
+        });
+        reservaRepository.saveAll(reservas);
+    }
+
+    private void liberar(List<ReservaEstoque> reservas) {
+        for (ReservaEstoque r : reservas) {
+            estoqueRepository.incrementar(r.getEstoqueId(), r.getQuantidade());
+            r.setStatus(StatusReserva.LIBERADA);
+            r.setDataAtualizacao(LocalDateTime.now());
+        }
+        reservaRepository.saveAll(reservas);
     }
 }
@@ -2,10 +2,12 @@ package com.synclink.application.service.impl;
 
 import com.synclink.application.dto.ItemPedidoDTO;
 import com.synclink.application.mapper.ItemPedidoMapper;
+import com.synclink.application.service.EstoqueService;
 import com.synclink.application.service.ItemPedidoService;
 import com.synclink.domain.repository.ItemPedidoRepository;
 import com.synclink.domain.repository.PedidoRepository;
 import com.synclink.domain.repository.ProdutoRepository;
+import com.synclink.infrastructure.persistence.OptimisticLockRetry;
 import com.synclink.model.ItemPedido;
 import com.synclink.model.Pedido;
 import com.synclink.model.Produto;
@@ -13,6 +15,7 @@ import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -28,6 +31,8 @@ public class ItemPedidoServiceImpl implements ItemPedidoService {
     private final PedidoRepository pedidoRepository;
     private final ProdutoRepository produtoRepository;
     private final ItemPedidoMapper itemPedidoMapper;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final EstoqueService estoqueService;
 
     @Override
     @Transactional(readOnly = true)
@@ -44,58 +49,73 @@ public class ItemPedidoServiceImpl implements ItemPedidoService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ItemPedidoDTO create(ItemPedidoDTO dto) {
-        Pedido pedido = pedidoRepository.findById(dto.getPedidoId())
-                .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + dto.getPedidoId()));
-
-        Produto produto = produtoRepository.findById(dto.getProdutoId())
-                .orElseThrow(() -> new EntityNotFoundException("Produto não encontrado com ID: " + dto.getProdutoId()));
-
-        ItemPedido item = new ItemPedido();
-        item.setPedido(pedido);
-        item.setProduto(produto);
-        item.setQuantidade(dto.getQuantidade());
-        item.setPrecoUnitario(produto.getPreco());
-        item.setObservacao(dto.getObservacao());
-
-        itemPedidoRepository.save(item);
-        pedido.calcularTotais();
-        pedidoRepository.save(pedido);
-
-        log.info("✅ Item '{}' adicionado ao pedido {}", produto.getNome(), pedido.getId());
-        return itemPedidoMapper.toDto(item);
+        return optimisticLockRetry.executar(() -> {
+            Pedido pedido = pedidoRepository.findById(dto.getPedidoId())
+                    .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + dto.getPedidoId()));
+
+            Produto produto = produtoRepository.findById(dto.getProdutoId())
+                    .orElseThrow(() -> new EntityNotFoundException("Produto não encontrado com ID: " + dto.getProdutoId()));
+
+            ItemPedido item = new ItemPedido();
+            item.setPedido(pedido);
+            item.setProduto(produto);
+            item.setQuantidade(dto.getQuantidade());
+            item.setPrecoUnitario(produto.getPreco());
+            item.setObservacao(dto.getObservacao());
+
+            itemPedidoRepository.save(item);
+            estoqueService.reservar(pedido.getId(), item.getId(), produto.getId(), item.getQuantidade());
+            pedido.calcularTotais();
+            pedidoRepository.save(pedido);
+
+            log.info("✅ Item '{}' adicionado ao pedido {}", produto.getNome(), pedido.getId());
+            return itemPedidoMapper.toDto(item);
+        });
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ItemPedidoDTO update(Long id, ItemPedidoDTO dto) {
-        ItemPedido item = itemPedidoRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Item não encontrado com ID: " + id));
-
-        item.setQuantidade(dto.getQuantidade());
-        item.setObservacao(dto.getObservacao());
-        item.calcularSubtotal();
-        itemPedidoRepository.save(item);
-
-        Pedido pedido = item.getPedido();
-        pedido.calcularTotais();
-        pedidoRepository.save(pedido);
-
-        log.info("🔁 Item ID {} atualizado com sucesso no pedido {}", id, pedido.getId());
-        return itemPedidoMapper.toDto(item);
+        return optimisticLockRetry.executar(() -> {
+            ItemPedido item = itemPedidoRepository.findById(id)
+                    .orElseThrow(() -> new EntityNotFoundException("Item não encontrado com ID: " + id));
+
+            if (!item.getQuantidade().equals(dto.getQuantidade())) {
+                estoqueService.liberarReservasItem(id);
+                estoqueService.reservar(item.getPedido().getId(), id, item.getProduto().getId(), dto.getQuantidade());
+            }
+            item.setQuantidade(dto.getQuantidade());
+            item.setObservacao(dto.getObservacao());
+            item.calcularSubtotal();
+            itemPedidoRepository.save(item);
+
+            Pedido pedido = item.getPedido();
+            pedido.calcularTotais();
+            pedidoRepository.save(pedido);
+
+            log.info("🔁 Item ID {} atualizado com sucesso no pedido {}", id, pedido.getId());
+            return itemPedidoMapper.toDto(item);
+        });
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void delete(Long id) {
-        ItemPedido item = itemPedidoRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Item não encontrado com ID: " + id));
-
-        Pedido pedido = item.getPedido();
-        itemPedidoRepository.delete(item);
-
-        pedido.calcularTotais();
-        pedidoRepository.save(pedido);
-
-        log.info("🗑️ Item ID {} removido do pedido {}", id, pedido.getId());
+        optimisticLockRetry.executar(() -> {
+            ItemPedido item = itemPedidoRepository.findById(id)
+                    .orElseThrow(() -> new EntityNotFoundException("Item não encontrado com ID: " + id));
+
+            Pedido pedido = item.getPedido();
+            estoqueService.liberarReservasItem(id);
+            // orphanRemoval exclui o item; removê-lo da coleção também mantém os totais corretos
+            pedido.removerItem(item);
+            pedidoRepository.save(pedido);
+
+            log.info("🗑️ Item ID {} removido do pedido {}", id, pedido.getId());
+            return null;
+        });
     }
 
     @Override
@@ -1,24 +1,30 @@
 package com.synclink.application.service.impl;
 
 import com.synclink.application.dto.PagamentoDTO;
+import com.synclink.application.dto.PaginaCursorDTO;
 import com.synclink.application.mapper.PagamentoMapper;
 import com.synclink.application.service.PagamentoService;
+import com.synclink.application.service.ResumoVendasService;
 import com.synclink.application.service.WebSocketService;
+import com.synclink.infrastructure.config.MetricasConfig;
 import com.synclink.model.*;
 import com.synclink.domain.repository.PagamentoRepository;
 import com.synclink.domain.repository.PedidoRepository;
 import com.synclink.model.enums.FormaPagamento;
 import com.synclink.model.enums.StatusPagamento;
 import com.synclink.model.enums.StatusPedido;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.UUID;
@@ -29,10 +35,13 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class PagamentoServiceImpl implements PagamentoService {
 
+    private static final int TAMANHO_MAXIMO_PAGINA = 100;
+
     private final PagamentoRepository pagamentoRepository;
     private final PedidoRepository pedidoRepository;
     private final PagamentoMapper pagamentoMapper;
     private final WebSocketService webSocketService;
+    private final ResumoVendasService resumoVendasService;
 
     @Override
     @Transactional(readOnly = true)
@@ -45,6 +54,34 @@ public class PagamentoServiceImpl implements PagamentoService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PagamentoDTO> findAll(Pageable pageable) {
+        return pagamentoRepository.findPaginado(pageable).map(pagamentoMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaCursorDTO<PagamentoDTO> findPorCursor(LocalDateTime aposData, Long aposId, int tamanho) {
+        int limite = Math.clamp(tamanho, 1, TAMANHO_MAXIMO_PAGINA);
+        // Busca um registro a mais para saber se existe próxima página sem executar COUNT
+        Pageable consulta = PageRequest.of(0, limite + 1);
+        List<Pagamento> registros = (aposData == null || aposId == null)
+                ? pagamentoRepository.findPrimeiraPaginaCursor(consulta)
+                : pagamentoRepository.findPaginaCursorApos(aposData, aposId, consulta);
+
+        boolean temMais = registros.size() > limite;
+        List<Pagamento> pagina = temMais ? registros.subList(0, limite) : registros;
+        Pagamento ultimo = temMais ? pagina.get(pagina.size() - 1) : null;
+
+        return PaginaCursorDTO.<PagamentoDTO>builder()
+                .itens(pagamentoMapper.toDtoList(pagina))
+                .proximaData(ultimo != null ? ultimo.getDataCriacao() : null)
+                .proximoId(ultimo != null ? ultimo.getId() : null)
+                .temMais(temMais)
+                .build();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public PagamentoDTO findById(Long id) {
@@ -135,6 +172,7 @@ public class PagamentoServiceImpl implements PagamentoService {
     }
 
     @Override
+    @Timed(value = MetricasConfig.PAGAMENTO_OPERACAO, extraTags = {MetricasConfig.TAG_OPERACAO, "processarPagamento"})
     public PagamentoDTO processarPagamento(Long pedidoId, FormaPagamento formaPagamento, BigDecimal valor) {
         try {
             Pedido pedido = pedidoRepository.findById(pedidoId)
@@ -163,6 +201,7 @@ public class PagamentoServiceImpl implements PagamentoService {
             pagamento.setDataConfirmacao(LocalDateTime.now());
 
             pagamento = pagamentoRepository.save(pagamento);
+            resumoVendasService.registrarTransicaoPagamento(pagamento, null);
 
             PagamentoDTO pagamentoDTO = pagamentoMapper.toDto(pagamento);
 
@@ -183,6 +222,7 @@ public class PagamentoServiceImpl implements PagamentoService {
     }
 
     @Override
+    @Timed(value = MetricasConfig.PAGAMENTO_OPERACAO, extraTags = {MetricasConfig.TAG_OPERACAO, "processarPagamentoCompleto"})
     public PagamentoDTO processarPagamentoCompleto(Long pedidoId, PagamentoDTO pagamentoDTO) {
         try {
             Pedido pedido = pedidoRepository.findById(pedidoId)
@@ -213,6 +253,7 @@ public class PagamentoServiceImpl implements PagamentoService {
             pagamento.setDataConfirmacao(LocalDateTime.now());
 
             pagamento = pagamentoRepository.save(pagamento);
+            resumoVendasService.registrarTransicaoPagamento(pagamento, null);
 
             PagamentoDTO resultado = pagamentoMapper.toDto(pagamento);
 
@@ -233,6 +274,7 @@ public class PagamentoServiceImpl implements PagamentoService {
     }
 
     @Override
+    @Timed(value = MetricasConfig.PAGAMENTO_OPERACAO, extraTags = {MetricasConfig.TAG_OPERACAO, "estornarPagamento"})
     public PagamentoDTO estornarPagamento(Long pagamentoId) {
         try {
             Pagamento pagamento = pagamentoRepository.findById(pagamentoId)
@@ -251,6 +293,7 @@ public class PagamentoServiceImpl implements PagamentoService {
 
             pagamento.setStatus(StatusPagamento.ESTORNADO);
             pagamento = pagamentoRepository.save(pagamento);
+            resumoVendasService.registrarTransicaoPagamento(pagamento, StatusPagamento.APROVADO);
 
             PagamentoDTO pagamentoDTO = pagamentoMapper.toDto(pagamento);
 
@@ -275,6 +318,7 @@ public class PagamentoServiceImpl implements PagamentoService {
     }
 
     @Override
+    @Timed(value = MetricasConfig.PAGAMENTO_OPERACAO, extraTags = {MetricasConfig.TAG_OPERACAO, "confirmarPagamento"})
     public PagamentoDTO confirmarPagamento(Long pagamentoId) {
         try {
             Pagamento pagamento = pagamentoRepository.findById(pagamentoId)
@@ -287,6 +331,7 @@ public class PagamentoServiceImpl implements PagamentoService {
             pagamento.setStatus(StatusPagamento.APROVADO);
             pagamento.setDataConfirmacao(LocalDateTime.now());
             pagamento = pagamentoRepository.save(pagamento);
+            resumoVendasService.registrarTransicaoPagamento(pagamento, StatusPagamento.PENDENTE);
 
             PagamentoDTO pagamentoDTO = pagamentoMapper.toDto(pagamento);
 
@@ -305,6 +350,7 @@ public class PagamentoServiceImpl implements PagamentoService {
     }
 
     @Override
+    @Timed(value = MetricasConfig.PAGAMENTO_OPERACAO, extraTags = {MetricasConfig.TAG_OPERACAO, "recusarPagamento"})
     public PagamentoDTO recusarPagamento(Long pagamentoId, String motivo) {
         try {
             Pagamento pagamento = pagamentoRepository.findById(pagamentoId)
@@ -367,13 +413,7 @@ public class PagamentoServiceImpl implements PagamentoService {
     @Transactional(readOnly = true)
     public List<PagamentoDTO> findByFormaPagamento(FormaPagamento formaPagamento) {
         try {
-            // Implementação temporária - você precisará criar este método no repository
-            List<Pagamento> todosPagamentos = pagamentoRepository.findAll();
-            return pagamentoMapper.toDtoList(
-                    todosPagamentos.stream()
-                            .filter(p -> p.getFormaPagamento() == formaPagamento)
-                            .toList()
-            );
+            return pagamentoMapper.toDtoList(pagamentoRepository.findByFormaPagamento(formaPagamento));
         } catch (Exception e) {
             log.error("Erro ao buscar pagamentos por forma de pagamento: {}", formaPagamento, e);
             throw new RuntimeException("Erro ao buscar pagamentos: " + e.getMessage());
@@ -385,15 +425,9 @@ public class PagamentoServiceImpl implements PagamentoService {
     public List<PagamentoDTO> findPagamentosPorPeriodo(String dataInicio, String dataFim) {
         try {
             LocalDateTime inicio = LocalDate.parse(dataInicio).atStartOfDay();
-            LocalDateTime fim = LocalDate.parse(dataFim).atTime(LocalTime.MAX);
-
-            // Implementação temporária - você precisará criar este método no repository
-            List<Pagamento> todosPagamentos = pagamentoRepository.findAll();
-            return pagamentoMapper.toDtoList(
-                    todosPagamentos.stream()
-                            .filter(p -> !p.getDataCriacao().isBefore(inicio) && !p.getDataCriacao().isAfter(fim))
-                            .toList()
-            );
+            LocalDateTime fim = LocalDate.parse(dataFim).plusDays(1).atStartOfDay();
+
+            return pagamentoMapper.toDtoList(pagamentoRepository.findByPeriodo(inicio, fim));
         } catch (Exception e) {
             log.error("Erro ao buscar pagamentos por período: {} a {}", dataInicio, dataFim, e);
             throw new RuntimeException("Erro ao buscar pagamentos: " + e.getMessage());
@@ -404,13 +438,10 @@ public class PagamentoServiceImpl implements PagamentoService {
     @Transactional(readOnly = true)
     public BigDecimal calcularTotalPagamentosPeriodo(String dataInicio, String dataFim) {
         try {
-            List<PagamentoDTO> pagamentos = findPagamentosPorPeriodo(dataInicio, dataFim);
-
-            return pagamentos.stream()
-                    .filter(p -> p.getStatus() == StatusPagamento.APROVADO)
-                    .map(PagamentoDTO::getValor)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            LocalDateTime inicio = LocalDate.parse(dataInicio).atStartOfDay();
+            LocalDateTime fim = LocalDate.parse(dataFim).plusDays(1).atStartOfDay();
 
+            return pagamentoRepository.calcularTotalPagamentosPeriodo(StatusPagamento.APROVADO, inicio, fim);
         } catch (Exception e) {
             log.error("Erro ao calcular total de pagamentos para período: {} a {}", dataInicio, dataFim, e);
             throw new RuntimeException("Erro ao calcular total de pagamentos: " + e.getMessage());
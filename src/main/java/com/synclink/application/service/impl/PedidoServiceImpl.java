@@ -2,20 +2,38 @@ package com.synclink.application.service.impl;
 
 import com.synclink.application.dto.*;
 import com.synclink.application.mapper.PedidoMapper;
+import com.synclink.application.service.EstoqueService;
 import com.synclink.application.service.PedidoService;
+import com.synclink.application.service.ResumoVendasService;
+import com.synclink.application.service.WebSocketService;
 import com.synclink.domain.repository.*;
+import com.synclink.domain.repository.projection.TotalPorStatusProjection;
+import com.synclink.domain.repository.projection.VendasAgrupadasProjection;
+import com.synclink.infrastructure.config.MetricasConfig;
+import com.synclink.infrastructure.persistence.AposCommit;
+import com.synclink.infrastructure.persistence.OptimisticLockRetry;
 import com.synclink.model.*;
 import com.synclink.model.enums.StatusPedido;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -24,12 +42,20 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PedidoServiceImpl implements PedidoService {
 
+    private static final int TAMANHO_MAXIMO_PAGINA = 100;
+
     private final PedidoRepository pedidoRepository;
     private final MesaRepository mesaRepository;
     private final UsuarioRepository usuarioRepository;
     private final ProdutoRepository produtoRepository;
     private final ItemPedidoRepository itemPedidoRepository;
     private final PedidoMapper pedidoMapper;
+    private final ResumoVendasService resumoVendasService;
+    private final EstoqueService estoqueService;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final TransicaoStatusPedidoRepository transicaoStatusPedidoRepository;
+    private final MeterRegistry meterRegistry;
+    private final WebSocketService webSocketService;
 
     // ==============================
     // CRUD BÁSICO
@@ -37,18 +63,47 @@ public class PedidoServiceImpl implements PedidoService {
     @Override
     @Transactional(readOnly = true)
     public List<PedidoDTO> findAll() {
-        return pedidoMapper.toDtoList(pedidoRepository.findAll());
+        return pedidoMapper.toDtoList(pedidoRepository.findAllDetalhado());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PedidoDTO> findAll(Pageable pageable) {
+        return pedidoRepository.findPaginado(pageable).map(pedidoMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaCursorDTO<PedidoDTO> findPorCursor(LocalDateTime aposData, Long aposId, int tamanho) {
+        int limite = Math.clamp(tamanho, 1, TAMANHO_MAXIMO_PAGINA);
+        // Busca um registro a mais para saber se existe próxima página sem executar COUNT
+        Pageable consulta = PageRequest.of(0, limite + 1);
+        List<Pedido> registros = (aposData == null || aposId == null)
+                ? pedidoRepository.findPrimeiraPaginaCursor(consulta)
+                : pedidoRepository.findPaginaCursorApos(aposData, aposId, consulta);
+
+        boolean temMais = registros.size() > limite;
+        List<Pedido> pagina = temMais ? registros.subList(0, limite) : registros;
+        Pedido ultimo = temMais ? pagina.get(pagina.size() - 1) : null;
+
+        return PaginaCursorDTO.<PedidoDTO>builder()
+                .itens(pedidoMapper.toDtoList(pagina))
+                .proximaData(ultimo != null ? ultimo.getDataCriacao() : null)
+                .proximoId(ultimo != null ? ultimo.getId() : null)
+                .temMais(temMais)
+                .build();
     }
 
     @Override
     @Transactional(readOnly = true)
     public PedidoDTO findById(Long id) {
-        Pedido pedido = pedidoRepository.findById(id)
+        Pedido pedido = pedidoRepository.findDetalhadoById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + id));
         return pedidoMapper.toDto(pedido);
     }
 
     @Override
+    @Timed(value = MetricasConfig.PEDIDO_OPERACAO, extraTags = {MetricasConfig.TAG_OPERACAO, "create"})
     public PedidoDTO create(CreatePedidoDTO dto, Long usuarioId) {
         Mesa mesa = mesaRepository.findById(dto.getMesaId())
                 .orElseThrow(() -> new EntityNotFoundException("Mesa não encontrada com ID: " + dto.getMesaId()));
@@ -64,21 +119,28 @@ public class PedidoServiceImpl implements PedidoService {
                 .build();
 
         Pedido saved = pedidoRepository.save(pedido);
+        registrarHistorico(saved, null);
         log.info("✅ Pedido criado com ID {} para mesa {}", saved.getId(), mesa.getNumero());
-        return pedidoMapper.toDto(saved);
+
+        PedidoDTO criado = pedidoMapper.toDto(saved);
+        webSocketService.notificarPedidoCriado(criado, mesa.getId());
+        return criado;
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PedidoDTO update(Long id, PedidoDTO dto) {
-        Pedido pedido = pedidoRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + id));
+        return optimisticLockRetry.executar(() -> {
+            Pedido pedido = pedidoRepository.findById(id)
+                    .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + id));
 
-        pedidoMapper.updateEntityFromDto(dto, pedido);
-        pedido.setDataAtualizacao(LocalDateTime.now());
-        Pedido updated = pedidoRepository.save(pedido);
+            pedidoMapper.updateEntityFromDto(dto, pedido);
+            pedido.setDataAtualizacao(LocalDateTime.now());
+            Pedido updated = pedidoRepository.save(pedido);
 
-        log.info("🔁 Pedido ID {} atualizado com sucesso", id);
-        return pedidoMapper.toDto(updated);
+            log.info("🔁 Pedido ID {} atualizado com sucesso", id);
+            return publicar(updated);
+        });
     }
 
     @Override
@@ -86,6 +148,7 @@ public class PedidoServiceImpl implements PedidoService {
         if (!pedidoRepository.existsById(id)) {
             throw new EntityNotFoundException("Pedido não encontrado com ID: " + id);
         }
+        estoqueService.liberarReservasPedido(id);
         pedidoRepository.deleteById(id);
         log.info("🗑️ Pedido ID {} excluído com sucesso", id);
     }
@@ -94,163 +157,236 @@ public class PedidoServiceImpl implements PedidoService {
     // GESTÃO DE ITENS
     // ==============================
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Timed(value = MetricasConfig.PEDIDO_OPERACAO, extraTags = {MetricasConfig.TAG_OPERACAO, "adicionarItem"})
     public PedidoDTO adicionarItem(Long pedidoId, AdicionarItemPedidoDTO itemDTO) {
-        Pedido pedido = pedidoRepository.findById(pedidoId)
-                .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + pedidoId));
-
-        Produto produto = produtoRepository.findById(itemDTO.getProdutoId())
-                .orElseThrow(() -> new EntityNotFoundException("Produto não encontrado com ID: " + itemDTO.getProdutoId()));
-
-        ItemPedido item = new ItemPedido();
-        item.setProduto(produto);
-        item.setQuantidade(itemDTO.getQuantidade());
-        item.calcularSubtotal();
-        pedido.adicionarItem(item);
-
-        pedidoRepository.save(pedido);
-        log.info("➕ Produto '{}' adicionado ao pedido {}", produto.getNome(), pedido.getId());
-
-        return pedidoMapper.toDto(pedido);
+        return optimisticLockRetry.executar(() -> {
+            Pedido pedido = pedidoRepository.findById(pedidoId)
+                    .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + pedidoId));
+
+            Produto produto = produtoRepository.findById(itemDTO.getProdutoId())
+                    .orElseThrow(() -> new EntityNotFoundException("Produto não encontrado com ID: " + itemDTO.getProdutoId()));
+
+            ItemPedido item = new ItemPedido();
+            item.setProduto(produto);
+            item.setQuantidade(itemDTO.getQuantidade());
+            item.calcularSubtotal();
+            pedido.adicionarItem(item);
+
+            itemPedidoRepository.save(item);
+            estoqueService.reservar(pedido.getId(), item.getId(), produto.getId(), item.getQuantidade());
+            pedidoRepository.save(pedido);
+            log.info("➕ Produto '{}' adicionado ao pedido {}", produto.getNome(), pedido.getId());
+
+            return publicar(pedido);
+        });
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Timed(value = MetricasConfig.PEDIDO_OPERACAO, extraTags = {MetricasConfig.TAG_OPERACAO, "removerItem"})
     public PedidoDTO removerItem(Long pedidoId, Long itemId) {
-        Pedido pedido = pedidoRepository.findById(pedidoId)
-                .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + pedidoId));
+        return optimisticLockRetry.executar(() -> {
+            Pedido pedido = pedidoRepository.findById(pedidoId)
+                    .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + pedidoId));
 
-        ItemPedido item = itemPedidoRepository.findById(itemId)
-                .orElseThrow(() -> new EntityNotFoundException("Item não encontrado com ID: " + itemId));
+            ItemPedido item = itemPedidoRepository.findById(itemId)
+                    .orElseThrow(() -> new EntityNotFoundException("Item não encontrado com ID: " + itemId));
 
-        pedido.removerItem(item);
-        pedidoRepository.save(pedido);
+            estoqueService.liberarReservasItem(itemId);
+            pedido.removerItem(item);
+            pedidoRepository.save(pedido);
 
-        log.info("➖ Item ID {} removido do pedido {}", itemId, pedidoId);
-        return pedidoMapper.toDto(pedido);
+            log.info("➖ Item ID {} removido do pedido {}", itemId, pedidoId);
+            return publicar(pedido);
+        });
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Timed(value = MetricasConfig.PEDIDO_OPERACAO, extraTags = {MetricasConfig.TAG_OPERACAO, "atualizarQuantidadeItem"})
     public PedidoDTO atualizarQuantidadeItem(Long pedidoId, Long itemId, Integer novaQuantidade) {
-        ItemPedido item = itemPedidoRepository.findById(itemId)
-                .orElseThrow(() -> new EntityNotFoundException("Item não encontrado com ID: " + itemId));
+        return optimisticLockRetry.executar(() -> {
+            ItemPedido item = itemPedidoRepository.findById(itemId)
+                    .orElseThrow(() -> new EntityNotFoundException("Item não encontrado com ID: " + itemId));
 
-        if (!item.getPedido().getId().equals(pedidoId))
-            throw new IllegalArgumentException("Item não pertence a este pedido.");
+            if (!item.getPedido().getId().equals(pedidoId))
+                throw new IllegalArgumentException("Item não pertence a este pedido.");
 
-        item.setQuantidade(novaQuantidade);
-        item.calcularSubtotal();
-        itemPedidoRepository.save(item);
+            // Devolve a reserva anterior e reserva a nova quantidade em um único passo transacional
+            estoqueService.liberarReservasItem(itemId);
+            estoqueService.reservar(pedidoId, itemId, item.getProduto().getId(), novaQuantidade);
 
-        Pedido pedido = item.getPedido();
-        pedido.calcularTotais();
-        pedidoRepository.save(pedido);
+            item.setQuantidade(novaQuantidade);
+            item.calcularSubtotal();
+            itemPedidoRepository.save(item);
 
-        log.info("🔄 Quantidade do item {} atualizada para {}", itemId, novaQuantidade);
-        return pedidoMapper.toDto(pedido);
+            Pedido pedido = item.getPedido();
+            pedido.calcularTotais();
+            pedidoRepository.save(pedido);
+
+            log.info("🔄 Quantidade do item {} atualizada para {}", itemId, novaQuantidade);
+            return publicar(pedido);
+        });
     }
 
     // ==============================
     // STATUS / FLUXO DO PEDIDO
     // ==============================
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Timed(value = MetricasConfig.PEDIDO_OPERACAO, extraTags = {MetricasConfig.TAG_OPERACAO, "atualizarStatus"})
     public PedidoDTO atualizarStatus(Long pedidoId, StatusPedido status) {
-        Pedido pedido = pedidoRepository.findById(pedidoId)
-                .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + pedidoId));
-
-        pedido.setStatus(status);
-        pedido.setDataAtualizacao(LocalDateTime.now());
-        pedidoRepository.save(pedido);
-
-        log.info("🚦 Status do pedido {} alterado para {}", pedidoId, status);
-        return pedidoMapper.toDto(pedido);
+        return optimisticLockRetry.executar(() -> {
+            Pedido pedido = pedidoRepository.findById(pedidoId)
+                    .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + pedidoId));
+            StatusPedido statusAnterior = pedido.getStatus();
+            BigDecimal valorAnterior = pedido.getValorFinal();
+
+            pedido.setStatus(status);
+            pedido.setDataAtualizacao(LocalDateTime.now());
+            pedidoRepository.save(pedido);
+            registrarTransicao(pedido, statusAnterior, valorAnterior);
+            if (status == StatusPedido.CANCELADO) {
+                estoqueService.liberarReservasPedido(pedidoId);
+            } else if (status == StatusPedido.FECHADO) {
+                estoqueService.confirmarReservasPedido(pedidoId);
+            }
+
+            log.info("🚦 Status do pedido {} alterado para {}", pedidoId, status);
+            return publicar(pedido);
+        });
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Timed(value = MetricasConfig.PEDIDO_OPERACAO, extraTags = {MetricasConfig.TAG_OPERACAO, "moverParaPreparo"})
     public PedidoDTO moverParaPreparo(Long id) {
         return atualizarStatus(id, StatusPedido.EM_PREPARO);
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Timed(value = MetricasConfig.PEDIDO_OPERACAO, extraTags = {MetricasConfig.TAG_OPERACAO, "marcarComoPronto"})
     public PedidoDTO marcarComoPronto(Long id) {
         return atualizarStatus(id, StatusPedido.PRONTO);
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Timed(value = MetricasConfig.PEDIDO_OPERACAO, extraTags = {MetricasConfig.TAG_OPERACAO, "marcarComoEntregue"})
     public PedidoDTO marcarComoEntregue(Long id) {
         return atualizarStatus(id, StatusPedido.ENTREGUE);
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Timed(value = MetricasConfig.PEDIDO_OPERACAO, extraTags = {MetricasConfig.TAG_OPERACAO, "cancelarPedido"})
     public PedidoDTO cancelarPedido(Long id, String motivo) {
-        Pedido pedido = pedidoRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + id));
-
-        pedido.setStatus(StatusPedido.CANCELADO);
-        pedido.setObservacao((pedido.getObservacao() != null ? pedido.getObservacao() + " | " : "") +
-                "Cancelado: " + motivo);
-        pedidoRepository.save(pedido);
-
-        log.warn("❌ Pedido {} cancelado. Motivo: {}", id, motivo);
-        return pedidoMapper.toDto(pedido);
+        return optimisticLockRetry.executar(() -> {
+            Pedido pedido = pedidoRepository.findById(id)
+                    .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + id));
+            StatusPedido statusAnterior = pedido.getStatus();
+            BigDecimal valorAnterior = pedido.getValorFinal();
+
+            pedido.setStatus(StatusPedido.CANCELADO);
+            pedido.setObservacao((pedido.getObservacao() != null ? pedido.getObservacao() + " | " : "") +
+                    "Cancelado: " + motivo);
+            pedidoRepository.save(pedido);
+            registrarTransicao(pedido, statusAnterior, valorAnterior);
+            estoqueService.liberarReservasPedido(id);
+
+            log.warn("❌ Pedido {} cancelado. Motivo: {}", id, motivo);
+            return publicar(pedido);
+        });
     }
 
     // ==============================
     // FINANCEIRO
     // ==============================
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PedidoDTO aplicarAcrescimo(Long pedidoId, BigDecimal valor, String justificativa) {
-        Pedido pedido = pedidoRepository.findById(pedidoId)
-                .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + pedidoId));
-        pedido.aplicarAcrescimo(valor, justificativa);
-        return pedidoMapper.toDto(pedidoRepository.save(pedido));
+        return optimisticLockRetry.executar(() -> {
+            Pedido pedido = pedidoRepository.findById(pedidoId)
+                    .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + pedidoId));
+            BigDecimal valorAnterior = pedido.getValorFinal();
+            pedido.aplicarAcrescimo(valor, justificativa);
+            Pedido salvo = pedidoRepository.save(pedido);
+            registrarTransicao(salvo, salvo.getStatus(), valorAnterior);
+            return publicar(salvo);
+        });
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public PedidoDTO aplicarDesconto(Long pedidoId, BigDecimal valor, String justificativa) {
-        Pedido pedido = pedidoRepository.findById(pedidoId)
-                .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + pedidoId));
-        pedido.aplicarDesconto(valor, justificativa);
-        return pedidoMapper.toDto(pedidoRepository.save(pedido));
+        return optimisticLockRetry.executar(() -> {
+            Pedido pedido = pedidoRepository.findById(pedidoId)
+                    .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + pedidoId));
+            BigDecimal valorAnterior = pedido.getValorFinal();
+            pedido.aplicarDesconto(valor, justificativa);
+            Pedido salvo = pedidoRepository.save(pedido);
+            registrarTransicao(salvo, salvo.getStatus(), valorAnterior);
+            return publicar(salvo);
+        });
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Timed(value = MetricasConfig.PEDIDO_OPERACAO, extraTags = {MetricasConfig.TAG_OPERACAO, "fecharPedido"})
     public PedidoDTO fecharPedido(Long pedidoId, FecharPedidoDTO dto) {
-        Pedido pedido = pedidoRepository.findById(pedidoId)
-                .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + pedidoId));
-
-        pedido.aplicarAcrescimo(dto.getAcrescimo(), dto.getJustificativaAcrescimo());
-        pedido.aplicarDesconto(dto.getDesconto(), dto.getJustificativaDesconto());
-        pedido.fecharPedido();
-        pedidoRepository.save(pedido);
-
-        log.info("💰 Pedido {} fechado com valor final de R$ {}", pedidoId, pedido.getValorFinal());
-        return pedidoMapper.toDto(pedido);
+        return optimisticLockRetry.executar(() -> {
+            Pedido pedido = pedidoRepository.findById(pedidoId)
+                    .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + pedidoId));
+            StatusPedido statusAnterior = pedido.getStatus();
+            BigDecimal valorAnterior = pedido.getValorFinal();
+
+            pedido.aplicarAcrescimo(dto.getAcrescimo(), dto.getJustificativaAcrescimo());
+            pedido.aplicarDesconto(dto.getDesconto(), dto.getJustificativaDesconto());
+            pedido.fecharPedido();
+            pedidoRepository.save(pedido);
+            registrarTransicao(pedido, statusAnterior, valorAnterior);
+            estoqueService.confirmarReservasPedido(pedidoId);
+
+            log.info("💰 Pedido {} fechado com valor final de R$ {}", pedidoId, pedido.getValorFinal());
+            return publicar(pedido);
+        });
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Timed(value = MetricasConfig.PEDIDO_OPERACAO, extraTags = {MetricasConfig.TAG_OPERACAO, "finalizarVenda"})
     public PedidoFinalizadoDTO finalizarVenda(Long pedidoId, FinalizarVendaDTO dto) {
-        Pedido pedido = pedidoRepository.findById(pedidoId)
-                .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + pedidoId));
-
-        BigDecimal troco = calcularTroco(pedidoId, dto.getValorPago());
-        pedido.fecharPedido();
-        pedidoRepository.save(pedido);
-
-        log.info("✅ Pedido {} finalizado com pagamento de R$ {} (troco R$ {})",
-                pedidoId, dto.getValorPago(), troco);
-
-        return PedidoFinalizadoDTO.builder()
-                .pedidoId(pedidoId)
-                .mesaId(pedido.getMesa().getId())
-                .mesaNumero(pedido.getMesa().getNumero())
-                .total(pedido.getValorFinal())
-                .valorPago(dto.getValorPago())
-                .troco(troco)
-                .formaPagamento(dto.getFormaPagamento())
-                .codigoTransacao(dto.getCodigoTransacao())
-                .dataFechamento(LocalDateTime.now())
-                .nomeCliente(dto.getNomeCliente())
-                .documentoCliente(dto.getDocumentoCliente())
-                .build();
+        return optimisticLockRetry.executar(() -> {
+            Pedido pedido = pedidoRepository.findById(pedidoId)
+                    .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + pedidoId));
+
+            StatusPedido statusAnterior = pedido.getStatus();
+            BigDecimal troco = calcularTroco(pedidoId, dto.getValorPago());
+            pedido.fecharPedido();
+            pedidoRepository.save(pedido);
+            registrarTransicao(pedido, statusAnterior, pedido.getValorFinal());
+            estoqueService.confirmarReservasPedido(pedidoId);
+
+            log.info("✅ Pedido {} finalizado com pagamento de R$ {} (troco R$ {})",
+                    pedidoId, dto.getValorPago(), troco);
+            publicar(pedido);
+
+            return PedidoFinalizadoDTO.builder()
+                    .pedidoId(pedidoId)
+                    .mesaId(pedido.getMesa().getId())
+                    .mesaNumero(pedido.getMesa().getNumero())
+                    .total(pedido.getValorFinal())
+                    .valorPago(dto.getValorPago())
+                    .troco(troco)
+                    .formaPagamento(dto.getFormaPagamento())
+                    .codigoTransacao(dto.getCodigoTransacao())
+                    .dataFechamento(LocalDateTime.now())
+                    .nomeCliente(dto.getNomeCliente())
+                    .documentoCliente(dto.getDocumentoCliente())
+                    .build();
+        });
     }
 
     @Override
@@ -261,15 +397,24 @@ public class PedidoServiceImpl implements PedidoService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
+    @Timed(value = MetricasConfig.PEDIDO_OPERACAO, extraTags = {MetricasConfig.TAG_OPERACAO, "reabrirPedido"})
     public PedidoDTO reabrirPedido(Long pedidoId, String motivo) {
-        Pedido pedido = pedidoRepository.findById(pedidoId)
-                .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + pedidoId));
+        return optimisticLockRetry.executar(() -> {
+            Pedido pedido = pedidoRepository.findById(pedidoId)
+                    .orElseThrow(() -> new EntityNotFoundException("Pedido não encontrado com ID: " + pedidoId));
 
-        pedido.reabrirPedido(motivo);
-        pedidoRepository.save(pedido);
+            StatusPedido statusAnterior = pedido.getStatus();
+            BigDecimal valorAnterior = pedido.getValorFinal();
 
-        log.info("🔓 Pedido {} reaberto. Motivo: {}", pedidoId, motivo);
-        return pedidoMapper.toDto(pedido);
+            pedido.reabrirPedido(motivo);
+            pedidoRepository.save(pedido);
+            registrarTransicao(pedido, statusAnterior, valorAnterior);
+            restaurarReservas(pedido, statusAnterior);
+
+            log.info("🔓 Pedido {} reaberto. Motivo: {}", pedidoId, motivo);
+            return publicar(pedido);
+        });
     }
 
     // ==============================
@@ -278,19 +423,19 @@ public class PedidoServiceImpl implements PedidoService {
     @Override
     @Transactional(readOnly = true)
     public List<PedidoDTO> findByStatus(StatusPedido status) {
-        return pedidoMapper.toDtoList(pedidoRepository.findByStatus(status));
+        return pedidoMapper.toDtoList(pedidoRepository.findDetalhadoByStatus(status));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PedidoDTO> findByMesaId(Long mesaId) {
-        return pedidoMapper.toDtoList(pedidoRepository.findByMesaId(mesaId));
+        return pedidoMapper.toDtoList(pedidoRepository.findDetalhadoByMesaId(mesaId));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PedidoDTO> findPedidosAtivos() {
-        return pedidoMapper.toDtoList(pedidoRepository.findPedidosAtivos());
+        return pedidoMapper.toDtoList(pedidoRepository.findPedidosAtivosDetalhado());
     }
 
     @Override
@@ -298,7 +443,7 @@ public class PedidoServiceImpl implements PedidoService {
     public List<PedidoDTO> findPedidosPorPeriodo(String dataInicio, String dataFim) {
         LocalDateTime inicio = LocalDate.parse(dataInicio).atStartOfDay();
         LocalDateTime fim = LocalDate.parse(dataFim).atTime(23, 59, 59);
-        return pedidoMapper.toDtoList(pedidoRepository.findByPeriodo(inicio, fim));
+        return pedidoMapper.toDtoList(pedidoRepository.findDetalhadoByPeriodo(inicio, fim));
     }
 
     @Override
@@ -309,7 +454,7 @@ public class PedidoServiceImpl implements PedidoService {
                 StatusPedido.PRONTO,
                 StatusPedido.ABERTO
         );
-        return pedidoMapper.toDtoList(pedidoRepository.findByStatusIn(status));
+        return pedidoMapper.toDtoList(pedidoRepository.findDetalhadoByStatusIn(status));
     }
 
     @Override
@@ -318,7 +463,7 @@ public class PedidoServiceImpl implements PedidoService {
         LocalDateTime inicio = LocalDate.parse(data).atStartOfDay();
         LocalDateTime fim = inicio.plusDays(1);
 
-        List<Pedido> pedidos = pedidoRepository.findByPeriodo(inicio, fim);
+        List<Pedido> pedidos = pedidoRepository.findResumidoByPeriodo(inicio, fim);
         return pedidos.stream().map(p ->
                 PedidoResumidoDTO.builder()
                         .id(p.getId())
@@ -334,27 +479,118 @@ public class PedidoServiceImpl implements PedidoService {
     @Override
     @Transactional(readOnly = true)
     public EstatisticasPedidosDTO obterEstatisticas(String dataInicio, String dataFim) {
-        List<PedidoDTO> pedidos = findPedidosPorPeriodo(dataInicio, dataFim);
-
-        BigDecimal totalVendas = pedidos.stream()
-                .map(PedidoDTO::getValorFinal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        LocalDateTime inicio = LocalDate.parse(dataInicio).atStartOfDay();
+        LocalDateTime fim = LocalDate.parse(dataFim).plusDays(1).atStartOfDay();
+
+        List<TotalPorStatusProjection> totaisPorStatus = pedidoRepository.totalizarPorStatus(inicio, fim);
+
+        Map<StatusPedido, Long> pedidosPorStatus = new EnumMap<>(StatusPedido.class);
+        long totalPedidos = 0;
+        long cancelados = 0;
+        BigDecimal totalVendas = BigDecimal.ZERO;
+        BigDecimal totalCancelado = BigDecimal.ZERO;
+
+        for (TotalPorStatusProjection linha : totaisPorStatus) {
+            pedidosPorStatus.put(linha.getStatus(), linha.getQuantidade());
+            totalPedidos += linha.getQuantidade();
+            totalVendas = totalVendas.add(linha.getTotal());
+            if (linha.getStatus() == StatusPedido.CANCELADO) {
+                cancelados = linha.getQuantidade();
+                totalCancelado = linha.getTotal();
+            }
+        }
 
-        long totalPedidos = pedidos.size();
-        long cancelados = pedidos.stream().filter(p -> p.getStatus() == StatusPedido.CANCELADO).count();
+        // Mesmo critério dos agrupamentos por hora, mesa e usuário: tudo o que não foi cancelado
+        totalVendas = totalVendas.subtract(totalCancelado);
+        long pedidosValidos = totalPedidos - cancelados;
+        BigDecimal ticketMedio = pedidosValidos == 0
+                ? BigDecimal.ZERO
+                : totalVendas.divide(BigDecimal.valueOf(pedidosValidos), 2, RoundingMode.HALF_UP);
+
+        List<VendasAgrupadasDTO> vendasPorHora = pedidoRepository
+                .totalizarPorHora(inicio, fim, StatusPedido.CANCELADO).stream()
+                .map(linha -> VendasAgrupadasDTO.builder()
+                        .id(linha.getHora().longValue())
+                        .descricao(String.format("%02dh", linha.getHora()))
+                        .quantidadePedidos(linha.getQuantidade())
+                        .totalVendas(linha.getTotal())
+                        .build())
+                .collect(Collectors.toList());
 
         return EstatisticasPedidosDTO.builder()
                 .totalPedidos(totalPedidos)
                 .totalCancelados(cancelados)
                 .totalVendas(totalVendas)
+                .ticketMedio(ticketMedio)
+                .pedidosPorStatus(pedidosPorStatus)
+                .vendasPorHora(vendasPorHora)
+                .vendasPorMesa(toVendasAgrupadas(pedidoRepository.totalizarPorMesa(inicio, fim, StatusPedido.CANCELADO)))
+                .vendasPorUsuario(toVendasAgrupadas(pedidoRepository.totalizarPorUsuario(inicio, fim, StatusPedido.CANCELADO)))
                 .periodoInicio(dataInicio)
                 .periodoFim(dataFim)
                 .build();
     }
 
-    @Override
-    @Transactional(readOnly = true)
-    public BigDecimal calcularTotalVendasPeriodo(String dataInicio, String dataFim) {
-        return obterEstatisticas(dataInicio, dataFim).getTotalVendas();
+    private List<VendasAgrupadasDTO> toVendasAgrupadas(List<VendasAgrupadasProjection> linhas) {
+        return linhas.stream()
+                .map(linha -> VendasAgrupadasDTO.builder()
+                        .id(linha.getId())
+                        .descricao(linha.getDescricao())
+                        .quantidadePedidos(linha.getQuantidade())
+                        .totalVendas(linha.getTotal())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // Flush para o DTO sair com a versão gravada; o WebSocketService só publica depois do commit
+    private PedidoDTO publicar(Pedido pedido) {
+        pedidoRepository.flush();
+        PedidoDTO dto = pedidoMapper.toDto(pedido);
+        if (pedido.getStatus() == StatusPedido.FECHADO) {
+            webSocketService.notificarPedidoFechado(dto, pedido.getMesa().getId());
+        } else {
+            webSocketService.notificarPedidoAtualizado(dto, pedido.getMesa().getId());
+        }
+        return dto;
+    }
+
+    // Fechado: as reservas confirmadas voltam a ATIVA. Cancelado: o estoque já foi devolvido e os itens são reservados de novo
+    private void restaurarReservas(Pedido pedido, StatusPedido statusAnterior) {
+        if (statusAnterior == StatusPedido.FECHADO) {
+            estoqueService.reativarReservasPedido(pedido.getId());
+        } else if (statusAnterior == StatusPedido.CANCELADO) {
+            for (ItemPedido item : pedido.getItens()) {
+                estoqueService.reservar(pedido.getId(), item.getId(), item.getProduto().getId(), item.getQuantidade());
+            }
+        }
+    }
+
+    // Resumo de vendas; quando o status muda, também o histórico de transições e o contador sync.pedido.transicoes.
+    // O contador só sobe no commit: tentativas descartadas pelo OptimisticLockRetry não contam
+    private void registrarTransicao(Pedido pedido, StatusPedido statusAnterior, BigDecimal valorAnterior) {
+        resumoVendasService.registrarTransicaoPedido(pedido, statusAnterior, valorAnterior);
+        if (statusAnterior != pedido.getStatus()) {
+            String de = String.valueOf(statusAnterior);
+            String para = String.valueOf(pedido.getStatus());
+            AposCommit.executar(() -> meterRegistry.counter("sync.pedido.transicoes", "de", de, "para", para).increment());
+            registrarHistorico(pedido, statusAnterior);
+        }
+    }
+
+    // Grava a transição (só inserção) com o tempo passado no status anterior; base dos indicadores da cozinha
+    private void registrarHistorico(Pedido pedido, StatusPedido statusAnterior) {
+        LocalDateTime agora = LocalDateTime.now();
+        Long duracaoMs = statusAnterior == null ? null : transicaoStatusPedidoRepository
+                .findFirstByPedidoIdOrderByDataTransicaoDescIdDesc(pedido.getId())
+                .map(ultima -> Duration.between(ultima.getDataTransicao(), agora).toMillis())
+                .orElse(null);
+
+        transicaoStatusPedidoRepository.save(TransicaoStatusPedido.builder()
+                .pedidoId(pedido.getId())
+                .statusAnterior(statusAnterior)
+                .statusNovo(pedido.getStatus())
+                .duracaoMs(duracaoMs)
+                .dataTransicao(agora)
+                .build());
     }
 }
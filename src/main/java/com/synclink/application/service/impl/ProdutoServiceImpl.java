@@ -2,12 +2,20 @@ package com.synclink.application.service.impl;
 
 import com.synclink.application.dto.ProdutoDTO;
 import com.synclink.application.mapper.ProdutoMapper;
+import com.synclink.application.service.CardapioService;
 import com.synclink.application.service.ProdutoService;
 import com.synclink.domain.repository.ProdutoRepository;
+import com.synclink.infrastructure.config.CacheConfig;
 import com.synclink.model.Produto;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +29,7 @@ public class ProdutoServiceImpl implements ProdutoService {
 
     private final ProdutoRepository produtoRepository;
     private final ProdutoMapper produtoMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -30,6 +39,13 @@ public class ProdutoServiceImpl implements ProdutoService {
 
     @Override
     @Transactional(readOnly = true)
+    public Page<ProdutoDTO> findAll(Pageable pageable) {
+        return produtoRepository.findAll(pageable).map(produtoMapper::toDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.PRODUTOS, key = "#id")
     public ProdutoDTO findById(Long id) {
         Produto produto = produtoRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Produto não encontrado com ID: " + id));
@@ -37,6 +53,10 @@ public class ProdutoServiceImpl implements ProdutoService {
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRODUTOS_POR_CATEGORIA, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.PRODUTOS_POR_ATIVO, allEntries = true)
+    })
     public ProdutoDTO create(ProdutoDTO produtoDTO) {
         if (produtoRepository.existsByNomeAndCategoriaId(produtoDTO.getNome(), produtoDTO.getCategoriaId())) {
             throw new IllegalArgumentException("Já existe um produto com este nome nesta categoria");
@@ -45,10 +65,16 @@ public class ProdutoServiceImpl implements ProdutoService {
         produto.setDataCriacao(LocalDateTime.now());
         produto.setAtivo(true);
         produto = produtoRepository.save(produto);
+        eventPublisher.publishEvent(new CardapioService.CatalogoAlterado());
         return produtoMapper.toDto(produto);
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRODUTOS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.PRODUTOS_POR_CATEGORIA, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.PRODUTOS_POR_ATIVO, allEntries = true)
+    })
     public ProdutoDTO update(Long id, ProdutoDTO produtoDTO) {
         Produto produto = produtoRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Produto não encontrado com ID: " + id));
@@ -56,45 +82,68 @@ public class ProdutoServiceImpl implements ProdutoService {
         produtoMapper.updateEntityFromDto(produtoDTO, produto);
         produto.setDataAtualizacao(LocalDateTime.now());
         produto = produtoRepository.save(produto);
+        eventPublisher.publishEvent(new CardapioService.CatalogoAlterado());
         return produtoMapper.toDto(produto);
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRODUTOS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.PRODUTOS_POR_CATEGORIA, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.PRODUTOS_POR_ATIVO, allEntries = true)
+    })
     public void delete(Long id) {
         if (!produtoRepository.existsById(id)) {
             throw new EntityNotFoundException("Produto não encontrado com ID: " + id);
         }
         produtoRepository.deleteById(id);
+        eventPublisher.publishEvent(new CardapioService.CatalogoAlterado());
         log.info("Produto ID {} excluído com sucesso", id);
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.PRODUTOS_POR_CATEGORIA, key = "#categoriaId")
     public List<ProdutoDTO> findByCategoriaId(Long categoriaId) {
         return produtoMapper.toDtoList(produtoRepository.findByCategoriaIdAndAtivoTrue(categoriaId));
     }
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.PRODUTOS_POR_ATIVO, key = "#ativo")
     public List<ProdutoDTO> findByAtivo(Boolean ativo) {
         return produtoMapper.toDtoList(produtoRepository.findByAtivo(ativo));
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRODUTOS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.PRODUTOS_POR_CATEGORIA, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.PRODUTOS_POR_ATIVO, allEntries = true)
+    })
     public ProdutoDTO ativar(Long id) {
         Produto produto = produtoRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Produto não encontrado com ID: " + id));
         produto.setAtivo(true);
         produto.setDataAtualizacao(LocalDateTime.now());
-        return produtoMapper.toDto(produtoRepository.save(produto));
+        produto = produtoRepository.save(produto);
+        eventPublisher.publishEvent(new CardapioService.CatalogoAlterado());
+        return produtoMapper.toDto(produto);
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.PRODUTOS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.PRODUTOS_POR_CATEGORIA, allEntries = true),
+            @CacheEvict(cacheNames = CacheConfig.PRODUTOS_POR_ATIVO, allEntries = true)
+    })
     public ProdutoDTO inativar(Long id) {
         Produto produto = produtoRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Produto não encontrado com ID: " + id));
         produto.setAtivo(false);
         produto.setDataAtualizacao(LocalDateTime.now());
-        return produtoMapper.toDto(produtoRepository.save(produto));
+        produto = produtoRepository.save(produto);
+        eventPublisher.publishEvent(new CardapioService.CatalogoAlterado());
+        return produtoMapper.toDto(produto);
     }
 }
@@ -0,0 +1,143 @@
+package com.synclink.application.service.impl;
+
+import com.synclink.application.dto.ResumoVendaDiariaDTO;
+import com.synclink.application.mapper.ResumoVendaDiariaMapper;
+import com.synclink.application.service.ResumoVendasService;
+import com.synclink.domain.repository.ResumoVendaDiariaRepository;
+import com.synclink.model.Pagamento;
+import com.synclink.model.Pedido;
+import com.synclink.model.ResumoVendaDiaria;
+import com.synclink.model.enums.StatusPagamento;
+import com.synclink.model.enums.StatusPedido;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ResumoVendasServiceImpl implements ResumoVendasService {
+
+    private static final Set<StatusPedido> STATUS_PEDIDO_CONSOLIDADOS =
+            Set.of(StatusPedido.FECHADO, StatusPedido.CANCELADO);
+    private static final Set<StatusPagamento> STATUS_PAGAMENTO_CONSOLIDADOS =
+            Set.of(StatusPagamento.APROVADO, StatusPagamento.ESTORNADO);
+    // Chave do advisory lock da reconstrução; única por aplicação no banco
+    private static final long CHAVE_LOCK_RECONSTRUCAO = 0x53594E4352455355L;
+
+    private final ResumoVendaDiariaRepository resumoRepository;
+    private final ResumoVendaDiariaMapper resumoMapper;
+
+    @Value("${sync.resumo-vendas.dias-reconstrucao:2}")
+    private int diasReconstrucao;
+
+    // ==============================
+    // ATUALIZAÇÃO INCREMENTAL
+    // ==============================
+    @Override
+    public void registrarTransicaoPedido(Pedido pedido, StatusPedido statusAnterior, BigDecimal valorAnterior) {
+        BigDecimal valorAtual = valorOuZero(pedido.getValorFinal());
+        valorAnterior = valorOuZero(valorAnterior);
+
+        if (statusAnterior == pedido.getStatus() && valorAnterior.compareTo(valorAtual) == 0) {
+            return;
+        }
+
+        LocalDate dia = pedido.getDataCriacao().toLocalDate();
+        Long usuarioId = pedido.getUsuario().getId();
+
+        if (STATUS_PEDIDO_CONSOLIDADOS.contains(statusAnterior)) {
+            resumoRepository.acumular(dia, statusAnterior.name(), ResumoVendaDiaria.FORMA_NAO_INFORMADA,
+                    usuarioId, -1, valorAnterior.negate());
+        }
+        if (STATUS_PEDIDO_CONSOLIDADOS.contains(pedido.getStatus())) {
+            resumoRepository.acumular(dia, pedido.getStatus().name(), ResumoVendaDiaria.FORMA_NAO_INFORMADA,
+                    usuarioId, 1, valorAtual);
+        }
+    }
+
+    @Override
+    public void registrarTransicaoPagamento(Pagamento pagamento, StatusPagamento statusAnterior) {
+        if (statusAnterior == pagamento.getStatus()) {
+            return;
+        }
+
+        LocalDate dia = pagamento.getDataCriacao().toLocalDate();
+        String forma = Objects.toString(pagamento.getFormaPagamento(), ResumoVendaDiaria.FORMA_NAO_INFORMADA);
+        Long usuarioId = pagamento.getPedido().getUsuario().getId();
+        BigDecimal valor = valorOuZero(pagamento.getValor());
+
+        if (STATUS_PAGAMENTO_CONSOLIDADOS.contains(statusAnterior)) {
+            resumoRepository.acumular(dia, statusAnterior.name(), forma, usuarioId, -1, valor.negate());
+        }
+        if (STATUS_PAGAMENTO_CONSOLIDADOS.contains(pagamento.getStatus())) {
+            resumoRepository.acumular(dia, pagamento.getStatus().name(), forma, usuarioId, 1, valor);
+        }
+    }
+
+    // ==============================
+    // CONSULTAS
+    // ==============================
+    @Override
+    @Transactional(readOnly = true)
+    public List<ResumoVendaDiariaDTO> findPorPeriodo(String dataInicio, String dataFim) {
+        return resumoMapper.toDtoList(resumoRepository.findByDiaBetweenOrderByDiaAscStatusAsc(
+                LocalDate.parse(dataInicio), LocalDate.parse(dataFim)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public BigDecimal calcularTotalVendas(LocalDate inicio, LocalDate fim) {
+        return resumoRepository.somarPorStatus(StatusPedido.FECHADO.name(), inicio, fim);
+    }
+
+    // ==============================
+    // RECONSTRUÇÃO
+    // ==============================
+    @Override
+    public void reconstruir(LocalDate inicio, LocalDate fim) {
+        if (fim.isBefore(inicio)) {
+            throw new IllegalArgumentException("Data final anterior à data inicial");
+        }
+
+        if (!resumoRepository.tentarBloqueioReconstrucao(CHAVE_LOCK_RECONSTRUCAO)) {
+            throw new IllegalStateException("Reconstrução do resumo de vendas já em andamento");
+        }
+        reconstruirPeriodo(inicio, fim);
+    }
+
+    // Recalcula os últimos dias para corrigir desvios (ex.: pedidos excluídos ou editados fora do fluxo).
+    // Com várias instâncias, só a que obtiver o lock reconstrói; as demais pulam a execução
+    @Scheduled(cron = "${sync.resumo-vendas.cron-reconstrucao:0 30 3 * * *}")
+    public void reconstruirDiasRecentes() {
+        if (!resumoRepository.tentarBloqueioReconstrucao(CHAVE_LOCK_RECONSTRUCAO)) {
+            log.info("⏭️ Reconstrução do resumo de vendas já em andamento em outra instância, ignorando");
+            return;
+        }
+        LocalDate hoje = LocalDate.now();
+        reconstruirPeriodo(hoje.minusDays(diasReconstrucao), hoje);
+    }
+
+    private void reconstruirPeriodo(LocalDate inicio, LocalDate fim) {
+        int removidas = resumoRepository.excluirPeriodo(inicio, fim);
+        int pedidos = resumoRepository.reconstruirPedidos(inicio.atStartOfDay(), fim.plusDays(1).atStartOfDay());
+        int pagamentos = resumoRepository.reconstruirPagamentos(inicio.atStartOfDay(), fim.plusDays(1).atStartOfDay());
+
+        log.info("📊 Resumo de vendas reconstruído de {} a {} ({} linhas removidas, {} de pedidos, {} de pagamentos)",
+                inicio, fim, removidas, pedidos, pagamentos);
+    }
+
+    private BigDecimal valorOuZero(BigDecimal valor) {
+        return valor != null ? valor : BigDecimal.ZERO;
+    }
+}
@@ -7,7 +7,11 @@ import com.synclink.application.service.AuthService;
 import com.synclink.model.enums.PerfilUsuario;
 import com.synclink.model.Usuario;
 import com.synclink.domain.repository.UsuarioRepository;
+import com.synclink.infrastructure.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -25,6 +29,7 @@ public class UsuarioServiceImpl implements UsuarioService {
     private final UsuarioMapper usuarioMapper;
     private final PasswordEncoder passwordEncoder;
     private final AuthService authService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional(readOnly = true)
@@ -36,6 +41,16 @@ public class UsuarioServiceImpl implements UsuarioService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<UsuarioDTO> findAll(Pageable pageable) {
+        try {
+            return usuarioRepository.findAll(pageable).map(usuarioMapper::toDto);
+        } catch (Exception e) {
+            throw new RuntimeException("Erro ao buscar usuários: " + e.getMessage());
+        }
+    }
+
     @Override
     @Transactional(readOnly = true)
     public UsuarioDTO findById(Long id) {
@@ -81,6 +96,8 @@ public class UsuarioServiceImpl implements UsuarioService {
             Usuario usuario = usuarioRepository.findById(id)
                     .orElseThrow(() -> new NoSuchElementException("Usuário não encontrado com ID: " + id));
 
+            String emailAnterior = usuario.getEmail();
+
             // Verificar se novo email já existe (se foi alterado)
             if (!usuario.getEmail().equals(usuarioDTO.getEmail()) &&
                     usuarioRepository.existsByEmail(usuarioDTO.getEmail())) {
@@ -99,6 +116,7 @@ public class UsuarioServiceImpl implements UsuarioService {
 
             usuario.setDataAtualizacao(java.time.LocalDateTime.now());
             usuario = usuarioRepository.save(usuario);
+            eventPublisher.publishEvent(new PrincipalCache.UsuarioAlterado(emailAnterior));
             return usuarioMapper.toDto(usuario);
 
         } catch (NoSuchElementException | IllegalArgumentException e) {
@@ -129,6 +147,7 @@ public class UsuarioServiceImpl implements UsuarioService {
             }
 
             usuarioRepository.delete(usuario);
+            eventPublisher.publishEvent(new PrincipalCache.UsuarioAlterado(usuario.getEmail()));
 
         } catch (NoSuchElementException | IllegalStateException e) {
             throw e;
@@ -146,6 +165,7 @@ public class UsuarioServiceImpl implements UsuarioService {
             usuario.setAtivo(true);
             usuario.setDataAtualizacao(java.time.LocalDateTime.now());
             usuario = usuarioRepository.save(usuario);
+            eventPublisher.publishEvent(new PrincipalCache.UsuarioAlterado(usuario.getEmail()));
             return usuarioMapper.toDto(usuario);
 
         } catch (NoSuchElementException e) {
@@ -181,6 +201,7 @@ public class UsuarioServiceImpl implements UsuarioService {
             usuario.setAtivo(false);
             usuario.setDataAtualizacao(java.time.LocalDateTime.now());
             usuario = usuarioRepository.save(usuario);
+            eventPublisher.publishEvent(new PrincipalCache.UsuarioAlterado(usuario.getEmail()));
             return usuarioMapper.toDto(usuario);
 
         } catch (NoSuchElementException | IllegalStateException e) {
@@ -1,8 +1,11 @@
 package com.synclink.domain.repository;
 
+import com.synclink.domain.repository.projection.SaldoLoteProjection;
 import com.synclink.model.Estoque;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,4 +17,28 @@ public interface EstoqueRepository extends JpaRepository<Estoque, Long> {
 
     @Query("SELECT e FROM Estoque e WHERE e.quantidade <= e.estoqueMinimo")
     List<Estoque> findByQuantidadeLessThanEqualEstoqueMinimo();
+
+    boolean existsByProdutoId(Long produtoId);
+
+    // Lotes com saldo, priorizando os que vencem primeiro. Projeção escalar de propósito: os UPDATEs
+    // abaixo não atualizam entidades já carregadas, e um Estoque da sessão traria o saldo de antes da
+    // baixa anterior na mesma transação (ex.: reabrir pedido cancelado reserva item a item)
+    @Query("SELECT e.id AS id, e.quantidade AS quantidade FROM Estoque e " +
+            "WHERE e.produto.id = :produtoId AND e.quantidade > 0 " +
+            "ORDER BY e.dataValidade ASC NULLS LAST, e.id ASC")
+    List<SaldoLoteProjection> findDisponiveisPorProduto(@Param("produtoId") Long produtoId);
+
+    // ==============================
+    // MOVIMENTAÇÃO ATÔMICA
+    // Um único UPDATE condicional: sem leitura prévia e sem perda de atualização
+    // entre transações concorrentes. Retornam a quantidade de linhas afetadas.
+    // ==============================
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Estoque e SET e.quantidade = e.quantidade - :quantidade " +
+            "WHERE e.id = :id AND e.quantidade >= :quantidade")
+    int decrementar(@Param("id") Long id, @Param("quantidade") int quantidade);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Estoque e SET e.quantidade = e.quantidade + :quantidade WHERE e.id = :id")
+    int incrementar(@Param("id") Long id, @Param("quantidade") int quantidade);
 }
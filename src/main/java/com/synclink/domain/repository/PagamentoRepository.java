@@ -3,6 +3,9 @@ package com.synclink.domain.repository;
 import com.synclink.model.enums.FormaPagamento;
 import com.synclink.model.Pagamento;
 import com.synclink.model.enums.StatusPagamento;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -19,13 +22,40 @@ public interface PagamentoRepository extends JpaRepository<Pagamento, Long> {
 
     List<Pagamento> findByStatus(StatusPagamento status);
 
-    @Query("SELECT p FROM Pagamento p WHERE p.dataCriacao BETWEEN :inicio AND :fim")
+    // Intervalo semiaberto [inicio, fim): permite usar o início do dia seguinte como limite
+    // sem perder registros do último segundo do dia e mantém a busca por faixa no índice
+    @Query("SELECT p FROM Pagamento p JOIN FETCH p.pedido " +
+            "WHERE p.dataCriacao >= :inicio AND p.dataCriacao < :fim " +
+            "ORDER BY p.dataCriacao DESC, p.id DESC")
     List<Pagamento> findByPeriodo(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
 
-    @Query("SELECT p FROM Pagamento p WHERE p.formaPagamento = :formaPagamento")
+    @Query("SELECT p FROM Pagamento p JOIN FETCH p.pedido " +
+            "WHERE p.formaPagamento = :formaPagamento " +
+            "ORDER BY p.dataCriacao DESC, p.id DESC")
     List<Pagamento> findByFormaPagamento(@Param("formaPagamento") FormaPagamento formaPagamento);
 
     @Query("SELECT COALESCE(SUM(p.valor), 0) FROM Pagamento p " +
-            "WHERE p.status = 'APROVADO' AND p.dataCriacao BETWEEN :inicio AND :fim")
-    BigDecimal calcularTotalPagamentosPeriodo(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
+            "WHERE p.status = :status AND p.dataCriacao >= :inicio AND p.dataCriacao < :fim")
+    BigDecimal calcularTotalPagamentosPeriodo(@Param("status") StatusPagamento status,
+                                              @Param("inicio") LocalDateTime inicio,
+                                              @Param("fim") LocalDateTime fim);
+
+    // ==============================
+    // PAGINAÇÃO
+    // ==============================
+    @EntityGraph(attributePaths = "pedido")
+    @Query(value = "SELECT p FROM Pagamento p", countQuery = "SELECT COUNT(p) FROM Pagamento p")
+    Page<Pagamento> findPaginado(Pageable pageable);
+
+    @EntityGraph(attributePaths = "pedido")
+    @Query("SELECT p FROM Pagamento p ORDER BY p.dataCriacao DESC, p.id DESC")
+    List<Pagamento> findPrimeiraPaginaCursor(Pageable limite);
+
+    @EntityGraph(attributePaths = "pedido")
+    @Query("SELECT p FROM Pagamento p " +
+            "WHERE p.dataCriacao < :data OR (p.dataCriacao = :data AND p.id < :id) " +
+            "ORDER BY p.dataCriacao DESC, p.id DESC")
+    List<Pagamento> findPaginaCursorApos(@Param("data") LocalDateTime data,
+                                         @Param("id") Long id,
+                                         Pageable limite);
 }
@@ -1,7 +1,13 @@
 package com.synclink.domain.repository;
 
+import com.synclink.domain.repository.projection.TotalPorStatusProjection;
+import com.synclink.domain.repository.projection.VendasAgrupadasProjection;
+import com.synclink.domain.repository.projection.VendasPorHoraProjection;
 import com.synclink.model.Pedido;
 import com.synclink.model.enums.StatusPedido;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -40,4 +46,97 @@ public interface PedidoRepository extends JpaRepository<Pedido, Long> {
 
     @Query("SELECT p FROM Pedido p WHERE p.mesa.id = :mesaId AND p.status IN ('ABERTO', 'EM_PREPARO', 'PRONTO', 'ENTREGUE')")
     Optional<Pedido> findPedidoAtivoPorMesa(@Param("mesaId") Long mesaId);
+
+    // ==============================
+    // LEITURAS DETALHADAS
+    // Carregam mesa, usuário, itens e produtos junto com o pedido para que o
+    // PedidoMapper não dispare uma consulta por associação (N+1).
+    // ==============================
+    @EntityGraph(Pedido.GRAFO_DETALHES)
+    @Query("SELECT p FROM Pedido p WHERE p.id = :id")
+    Optional<Pedido> findDetalhadoById(@Param("id") Long id);
+
+    @EntityGraph(Pedido.GRAFO_DETALHES)
+    @Query("SELECT p FROM Pedido p ORDER BY p.dataCriacao DESC")
+    List<Pedido> findAllDetalhado();
+
+    @EntityGraph(Pedido.GRAFO_DETALHES)
+    @Query("SELECT p FROM Pedido p WHERE p.status = :status ORDER BY p.dataCriacao DESC")
+    List<Pedido> findDetalhadoByStatus(@Param("status") StatusPedido status);
+
+    @EntityGraph(Pedido.GRAFO_DETALHES)
+    @Query("SELECT p FROM Pedido p WHERE p.mesa.id = :mesaId ORDER BY p.dataCriacao DESC")
+    List<Pedido> findDetalhadoByMesaId(@Param("mesaId") Long mesaId);
+
+    @EntityGraph(Pedido.GRAFO_DETALHES)
+    @Query("SELECT p FROM Pedido p WHERE p.status IN :statuses ORDER BY p.dataCriacao DESC")
+    List<Pedido> findDetalhadoByStatusIn(@Param("statuses") List<StatusPedido> statuses);
+
+    @EntityGraph(Pedido.GRAFO_DETALHES)
+    @Query("SELECT p FROM Pedido p WHERE p.status IN ('ABERTO', 'EM_PREPARO', 'PRONTO', 'ENTREGUE') ORDER BY p.dataCriacao DESC")
+    List<Pedido> findPedidosAtivosDetalhado();
+
+    @EntityGraph(Pedido.GRAFO_DETALHES)
+    @Query("SELECT p FROM Pedido p WHERE p.dataCriacao BETWEEN :inicio AND :fim ORDER BY p.dataCriacao DESC")
+    List<Pedido> findDetalhadoByPeriodo(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
+
+    @EntityGraph(attributePaths = {"mesa", "usuario"})
+    @Query("SELECT p FROM Pedido p WHERE p.dataCriacao BETWEEN :inicio AND :fim ORDER BY p.dataCriacao DESC")
+    List<Pedido> findResumidoByPeriodo(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
+
+    // ==============================
+    // PAGINAÇÃO
+    // Apenas associações to-one entram no grafo; os itens são carregados em lote
+    // (default_batch_fetch_size) para que o LIMIT continue sendo aplicado no banco.
+    // ==============================
+    @EntityGraph(attributePaths = {"mesa", "usuario"})
+    @Query(value = "SELECT p FROM Pedido p", countQuery = "SELECT COUNT(p) FROM Pedido p")
+    Page<Pedido> findPaginado(Pageable pageable);
+
+    @EntityGraph(attributePaths = {"mesa", "usuario"})
+    @Query("SELECT p FROM Pedido p ORDER BY p.dataCriacao DESC, p.id DESC")
+    List<Pedido> findPrimeiraPaginaCursor(Pageable limite);
+
+    @EntityGraph(attributePaths = {"mesa", "usuario"})
+    @Query("SELECT p FROM Pedido p " +
+            "WHERE p.dataCriacao < :data OR (p.dataCriacao = :data AND p.id < :id) " +
+            "ORDER BY p.dataCriacao DESC, p.id DESC")
+    List<Pedido> findPaginaCursorApos(@Param("data") LocalDateTime data,
+                                      @Param("id") Long id,
+                                      Pageable limite);
+
+    // ==============================
+    // ESTATÍSTICAS (agregações no banco, intervalo semiaberto [inicio, fim))
+    // ==============================
+    @Query("SELECT p.status AS status, COUNT(p) AS quantidade, COALESCE(SUM(p.valorFinal), 0) AS total " +
+            "FROM Pedido p WHERE p.dataCriacao >= :inicio AND p.dataCriacao < :fim " +
+            "GROUP BY p.status")
+    List<TotalPorStatusProjection> totalizarPorStatus(@Param("inicio") LocalDateTime inicio,
+                                                      @Param("fim") LocalDateTime fim);
+
+    @Query("SELECT EXTRACT(HOUR FROM p.dataCriacao) AS hora, COUNT(p) AS quantidade, " +
+            "COALESCE(SUM(p.valorFinal), 0) AS total " +
+            "FROM Pedido p WHERE p.dataCriacao >= :inicio AND p.dataCriacao < :fim AND p.status <> :ignorado " +
+            "GROUP BY EXTRACT(HOUR FROM p.dataCriacao) ORDER BY EXTRACT(HOUR FROM p.dataCriacao)")
+    List<VendasPorHoraProjection> totalizarPorHora(@Param("inicio") LocalDateTime inicio,
+                                                   @Param("fim") LocalDateTime fim,
+                                                   @Param("ignorado") StatusPedido ignorado);
+
+    @Query("SELECT m.id AS id, CONCAT('Mesa ', CAST(m.numero AS String)) AS descricao, COUNT(p) AS quantidade, " +
+            "COALESCE(SUM(p.valorFinal), 0) AS total " +
+            "FROM Pedido p JOIN p.mesa m " +
+            "WHERE p.dataCriacao >= :inicio AND p.dataCriacao < :fim AND p.status <> :ignorado " +
+            "GROUP BY m.id, m.numero ORDER BY COALESCE(SUM(p.valorFinal), 0) DESC")
+    List<VendasAgrupadasProjection> totalizarPorMesa(@Param("inicio") LocalDateTime inicio,
+                                                     @Param("fim") LocalDateTime fim,
+                                                     @Param("ignorado") StatusPedido ignorado);
+
+    @Query("SELECT u.id AS id, u.nome AS descricao, COUNT(p) AS quantidade, " +
+            "COALESCE(SUM(p.valorFinal), 0) AS total " +
+            "FROM Pedido p JOIN p.usuario u " +
+            "WHERE p.dataCriacao >= :inicio AND p.dataCriacao < :fim AND p.status <> :ignorado " +
+            "GROUP BY u.id, u.nome ORDER BY COALESCE(SUM(p.valorFinal), 0) DESC")
+    List<VendasAgrupadasProjection> totalizarPorUsuario(@Param("inicio") LocalDateTime inicio,
+                                                        @Param("fim") LocalDateTime fim,
+                                                        @Param("ignorado") StatusPedido ignorado);
 }
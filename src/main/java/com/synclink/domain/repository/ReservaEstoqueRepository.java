@@ -0,0 +1,16 @@
+package com.synclink.domain.repository;
+
+import com.synclink.model.ReservaEstoque;
+import com.synclink.model.enums.StatusReserva;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ReservaEstoqueRepository extends JpaRepository<ReservaEstoque, Long> {
+
+    List<ReservaEstoque> findByItemPedidoIdAndStatus(Long itemPedidoId, StatusReserva status);
+
+    List<ReservaEstoque> findByPedidoIdAndStatus(Long pedidoId, StatusReserva status);
+}
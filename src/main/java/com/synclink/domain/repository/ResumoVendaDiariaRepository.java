@@ -0,0 +1,81 @@
+package com.synclink.domain.repository;
+
+import com.synclink.model.ResumoVendaDiaria;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ResumoVendaDiariaRepository extends JpaRepository<ResumoVendaDiaria, Long> {
+
+    List<ResumoVendaDiaria> findByDiaBetweenOrderByDiaAscStatusAsc(LocalDate inicio, LocalDate fim);
+
+    @Query("SELECT COALESCE(SUM(r.valorTotal), 0) FROM ResumoVendaDiaria r " +
+            "WHERE r.status = :status AND r.dia BETWEEN :inicio AND :fim")
+    BigDecimal somarPorStatus(@Param("status") String status,
+                              @Param("inicio") LocalDate inicio,
+                              @Param("fim") LocalDate fim);
+
+    // ==============================
+    // ATUALIZAÇÃO INCREMENTAL
+    // Upsert atômico: transações concorrentes no mesmo dia somam sobre a mesma linha
+    // ==============================
+    @Modifying
+    @Query(value = "INSERT INTO resumo_vendas_diarias (dia, status, forma_pagamento, usuario_id, quantidade, valor_total) " +
+            "VALUES (:dia, :status, :formaPagamento, :usuarioId, :quantidade, :valor) " +
+            "ON CONFLICT (dia, status, forma_pagamento, usuario_id) DO UPDATE SET " +
+            "quantidade = resumo_vendas_diarias.quantidade + EXCLUDED.quantidade, " +
+            "valor_total = resumo_vendas_diarias.valor_total + EXCLUDED.valor_total",
+            nativeQuery = true)
+    void acumular(@Param("dia") LocalDate dia,
+                  @Param("status") String status,
+                  @Param("formaPagamento") String formaPagamento,
+                  @Param("usuarioId") Long usuarioId,
+                  @Param("quantidade") long quantidade,
+                  @Param("valor") BigDecimal valor);
+
+    // ==============================
+    // RECONSTRUÇÃO (backfill) A PARTIR DAS TABELAS DE ORIGEM
+    // Upsert com EXCLUDED: uma transação incremental pode recriar a linha entre o DELETE e o INSERT;
+    // o valor recalculado das tabelas de origem prevalece em vez de violar a chave única
+    // ==============================
+
+    // Lock de transação do PostgreSQL: liberado no commit/rollback, serializa a reconstrução entre os nós
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:chave)", nativeQuery = true)
+    boolean tentarBloqueioReconstrucao(@Param("chave") long chave);
+
+    @Modifying
+    @Query("DELETE FROM ResumoVendaDiaria r WHERE r.dia BETWEEN :inicio AND :fim")
+    int excluirPeriodo(@Param("inicio") LocalDate inicio, @Param("fim") LocalDate fim);
+
+    @Modifying
+    @Query(value = "INSERT INTO resumo_vendas_diarias (dia, status, forma_pagamento, usuario_id, quantidade, valor_total) " +
+            "SELECT CAST(p.data_criacao AS date), p.status, '" + ResumoVendaDiaria.FORMA_NAO_INFORMADA + "', p.usuario_id, " +
+            "COUNT(*), COALESCE(SUM(p.valor_final), 0) " +
+            "FROM pedidos p " +
+            "WHERE p.status IN ('FECHADO', 'CANCELADO') AND p.data_criacao >= :inicio AND p.data_criacao < :fim " +
+            "GROUP BY CAST(p.data_criacao AS date), p.status, p.usuario_id " +
+            "ON CONFLICT (dia, status, forma_pagamento, usuario_id) DO UPDATE SET " +
+            "quantidade = EXCLUDED.quantidade, valor_total = EXCLUDED.valor_total",
+            nativeQuery = true)
+    int reconstruirPedidos(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
+
+    @Modifying
+    @Query(value = "INSERT INTO resumo_vendas_diarias (dia, status, forma_pagamento, usuario_id, quantidade, valor_total) " +
+            "SELECT CAST(pg.data_criacao AS date), pg.status, pg.forma_pagamento, p.usuario_id, " +
+            "COUNT(*), COALESCE(SUM(pg.valor), 0) " +
+            "FROM pagamentos pg JOIN pedidos p ON p.id = pg.pedido_id " +
+            "WHERE pg.status IN ('APROVADO', 'ESTORNADO') AND pg.data_criacao >= :inicio AND pg.data_criacao < :fim " +
+            "GROUP BY CAST(pg.data_criacao AS date), pg.status, pg.forma_pagamento, p.usuario_id " +
+            "ON CONFLICT (dia, status, forma_pagamento, usuario_id) DO UPDATE SET " +
+            "quantidade = EXCLUDED.quantidade, valor_total = EXCLUDED.valor_total",
+            nativeQuery = true)
+    int reconstruirPagamentos(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
+}
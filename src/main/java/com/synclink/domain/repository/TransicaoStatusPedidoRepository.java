@@ -0,0 +1,46 @@
+package com.synclink.domain.repository;
+
+import com.synclink.domain.repository.projection.TempoCozinhaProjection;
+import com.synclink.model.TransicaoStatusPedido;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TransicaoStatusPedidoRepository extends JpaRepository<TransicaoStatusPedido, Long> {
+
+    Optional<TransicaoStatusPedido> findFirstByPedidoIdOrderByDataTransicaoDescIdDesc(Long pedidoId);
+
+    List<TransicaoStatusPedido> findByPedidoIdOrderByDataTransicaoAscIdAsc(Long pedidoId);
+
+    // ==============================
+    // INDICADORES DA COZINHA (janela móvel, lida do histórico gravado por todos os nós)
+    // percentile_disc = percentil pelo posto mais próximo
+    // ==============================
+    @Query(value = "SELECT t.status_anterior AS chave, COUNT(*) AS amostras, " +
+            "percentile_disc(0.5) WITHIN GROUP (ORDER BY t.duracao_ms) AS p50Ms, " +
+            "percentile_disc(0.9) WITHIN GROUP (ORDER BY t.duracao_ms) AS p90Ms " +
+            "FROM transicoes_status_pedido t " +
+            "WHERE t.data_transicao >= :desde AND t.status_anterior IS NOT NULL AND t.duracao_ms IS NOT NULL " +
+            "GROUP BY t.status_anterior",
+            nativeQuery = true)
+    List<TempoCozinhaProjection> temposPorStatus(@Param("desde") LocalDateTime desde);
+
+    // Tempo de preparo (saída de EM_PREPARO) de cada pedido, contado uma vez por categoria dos seus itens
+    @Query(value = "SELECT pc.categoria AS chave, COUNT(*) AS amostras, " +
+            "percentile_disc(0.5) WITHIN GROUP (ORDER BY t.duracao_ms) AS p50Ms, " +
+            "percentile_disc(0.9) WITHIN GROUP (ORDER BY t.duracao_ms) AS p90Ms " +
+            "FROM transicoes_status_pedido t " +
+            "CROSS JOIN LATERAL (SELECT DISTINCT c.nome AS categoria FROM itens_pedido ip " +
+            "    JOIN produtos p ON p.id = ip.produto_id JOIN categorias c ON c.id = p.categoria_id " +
+            "    WHERE ip.pedido_id = t.pedido_id) pc " +
+            "WHERE t.data_transicao >= :desde AND t.status_anterior = 'EM_PREPARO' AND t.duracao_ms IS NOT NULL " +
+            "GROUP BY pc.categoria",
+            nativeQuery = true)
+    List<TempoCozinhaProjection> temposPreparoPorCategoria(@Param("desde") LocalDateTime desde);
+}
@@ -0,0 +1,9 @@
+package com.synclink.domain.repository.projection;
+
+// Saldo lido direto do banco: não passa pelas entidades Estoque já carregadas na sessão
+public interface SaldoLoteProjection {
+
+    Long getId();
+
+    Integer getQuantidade();
+}
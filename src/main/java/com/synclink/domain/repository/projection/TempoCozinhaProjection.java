@@ -0,0 +1,12 @@
+package com.synclink.domain.repository.projection;
+
+public interface TempoCozinhaProjection {
+
+    String getChave();
+
+    Long getAmostras();
+
+    Long getP50Ms();
+
+    Long getP90Ms();
+}
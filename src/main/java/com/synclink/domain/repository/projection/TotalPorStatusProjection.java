@@ -0,0 +1,14 @@
+package com.synclink.domain.repository.projection;
+
+import com.synclink.model.enums.StatusPedido;
+
+import java.math.BigDecimal;
+
+public interface TotalPorStatusProjection {
+
+    StatusPedido getStatus();
+
+    Long getQuantidade();
+
+    BigDecimal getTotal();
+}
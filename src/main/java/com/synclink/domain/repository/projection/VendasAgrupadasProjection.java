@@ -0,0 +1,14 @@
+package com.synclink.domain.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface VendasAgrupadasProjection {
+
+    Long getId();
+
+    String getDescricao();
+
+    Long getQuantidade();
+
+    BigDecimal getTotal();
+}
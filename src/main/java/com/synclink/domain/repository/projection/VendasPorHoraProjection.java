@@ -0,0 +1,12 @@
+package com.synclink.domain.repository.projection;
+
+import java.math.BigDecimal;
+
+public interface VendasPorHoraProjection {
+
+    Integer getHora();
+
+    Long getQuantidade();
+
+    BigDecimal getTotal();
+}
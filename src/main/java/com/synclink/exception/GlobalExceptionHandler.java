@@ -1,5 +1,7 @@
 package com.synclink.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -44,6 +46,36 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(body);
     }
 
+    // 🔒 Conflito de concorrência que persistiu após as novas tentativas
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiError> handleOptimisticLock(OptimisticLockingFailureException ex) {
+        var body = new ApiError(
+                HttpStatus.CONFLICT.value(),
+                "Conflict",
+                "O registro foi alterado por outra operação. Recarregue e tente novamente.",
+                OffsetDateTime.now(),
+                null
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
+    // ⏳ Recurso limitado saturado (ex.: rajada de logins)
+    @ExceptionHandler(ServicoSobrecarregadoException.class)
+    public ResponseEntity<ApiError> handleSobrecarga(ServicoSobrecarregadoException ex) {
+        var body = new ApiError(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Service Unavailable",
+                ex.getMessage(),
+                OffsetDateTime.now(),
+                null
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(body);
+    }
+
     // ⚠️ Exceções de runtime (negócio, serviços, etc.)
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<ApiError> handleRuntime(RuntimeException ex) {
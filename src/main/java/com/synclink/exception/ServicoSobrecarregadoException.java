@@ -0,0 +1,12 @@
+package com.synclink.exception;
+
+/**
+ * Lançada quando um recurso limitado (ex.: hashing de senhas) está saturado.
+ * Mapeada para 503 para que o cliente tente novamente em instantes.
+ */
+public class ServicoSobrecarregadoException extends RuntimeException {
+
+    public ServicoSobrecarregadoException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,42 @@
+package com.synclink.infrastructure.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Habilita o cache de leitura do catálogo (produtos e categorias).
+ * O provedor (Caffeine), os limites e o registro de estatísticas ficam em spring.cache no application.yaml.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PRODUTOS = "produtos";
+    public static final String PRODUTOS_POR_CATEGORIA = "produtosPorCategoria";
+    public static final String PRODUTOS_POR_ATIVO = "produtosPorAtivo";
+    public static final String CATEGORIAS = "categorias";
+    public static final String CATEGORIAS_POR_ATIVO = "categoriasPorAtivo";
+
+    /**
+     * Envolve o CacheManager do auto-configure para que put/evict feitos dentro de uma transação
+     * só aconteçam depois do commit. Sem isso, o @CacheEvict das escritas roda antes do commit e
+     * uma leitura concorrente pode recolocar no cache o valor antigo.
+     * Fora de transação o comportamento é o imediato de sempre.
+     */
+    @Bean
+    static BeanPostProcessor cacheTransacionalPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof CacheManager cacheManager && !(bean instanceof TransactionAwareCacheManagerProxy)) {
+                    return new TransactionAwareCacheManagerProxy(cacheManager);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.synclink.infrastructure.config;
+
+import io.micrometer.core.aop.CountedAspect;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Métricas dos serviços (@Timed / @Counted), exportadas em /actuator/prometheus.
+ * Histogramas e tags comuns ficam em management.metrics no application.yaml.
+ */
+@Configuration
+public class MetricasConfig {
+
+    // Um timer por domínio; a operação (criar, fechar, estornar...) vai na tag "operacao"
+    public static final String PEDIDO_OPERACAO = "sync.pedido.operacao";
+    public static final String COMANDA_OPERACAO = "sync.comanda.operacao";
+    public static final String PAGAMENTO_OPERACAO = "sync.pagamento.operacao";
+    public static final String TAG_OPERACAO = "operacao";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public CountedAspect countedAspect(MeterRegistry meterRegistry) {
+        return new CountedAspect(meterRegistry);
+    }
+}
@@ -1,19 +1,38 @@
 package com.synclink.infrastructure.config;
 
+import com.synclink.infrastructure.security.BoundedPasswordEncoder;
+import com.synclink.infrastructure.security.CustoBcryptPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 /**
  * Configuração isolada para o PasswordEncoder.
  * Evita dependências circulares entre AuthService e SecurityConfig.
+ * O custo do BCrypt é configurável; senhas com outro custo (maior ou menor) são refeitas no próximo login.
  */
 @Configuration
 public class PasswordConfig {
 
+    @Value("${sync.security.senha.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${sync.security.senha.hash-threads:0}")
+    private int hashThreads;
+
+    @Value("${sync.security.senha.hash-fila:64}")
+    private int hashFila;
+
+    @Value("${sync.security.senha.hash-espera-maxima-ms:5000}")
+    private long hashEsperaMaximaMs;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        // 0 = metade dos núcleos, deixando CPU livre para o restante da aplicação
+        int threads = hashThreads > 0
+                ? hashThreads
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new CustoBcryptPasswordEncoder(bcryptStrength), threads, hashFila, hashEsperaMaximaMs);
     }
 }
@@ -0,0 +1,12 @@
+package com.synclink.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as rotinas agendadas (ex.: reconstrução do resumo diário de vendas).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
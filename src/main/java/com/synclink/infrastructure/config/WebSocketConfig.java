@@ -1,22 +1,107 @@
 package com.synclink.infrastructure.config;
 
+import com.synclink.infrastructure.security.StompAuthInterceptor;
+import com.synclink.infrastructure.websocket.ContrapressaoWebSocket;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Configuração STOMP. O broker é escolhido por sync.websocket.broker.modo:
+ * <ul>
+ *     <li>simple: broker em memória, para uma única instância (padrão / desenvolvimento)</li>
+ *     <li>relay: broker STOMP externo (RabbitMQ, ActiveMQ Artemis...), compartilhado entre instâncias</li>
+ * </ul>
+ */
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    public static final String MODO_RELAY = "relay";
+
+    @Value("${sync.websocket.broker.modo:simple}")
+    private String modoBroker;
+
+    @Value("${sync.websocket.broker.relay-host:localhost}")
+    private String relayHost;
+
+    @Value("${sync.websocket.broker.relay-port:61613}")
+    private int relayPort;
+
+    @Value("${sync.websocket.broker.login:guest}")
+    private String relayLogin;
+
+    @Value("${sync.websocket.broker.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${sync.websocket.broker.virtual-host:}")
+    private String relayVirtualHost;
+
+    @Value("${sync.websocket.canais.inbound-threads:8}")
+    private int inboundThreads;
+
+    @Value("${sync.websocket.canais.outbound-threads:8}")
+    private int outboundThreads;
+
+    @Value("${sync.websocket.canais.fila:1000}")
+    private int filaCanal;
+
+    @Value("${sync.websocket.envio.tempo-limite-ms:10000}")
+    private int tempoLimiteEnvioMs;
+
+    @Value("${sync.websocket.envio.buffer-limite-kb:512}")
+    private int bufferLimiteKb;
+
+    @Value("${sync.websocket.envio.mensagem-limite-kb:64}")
+    private int mensagemLimiteKb;
+
+    private final ObjectProvider<ContrapressaoWebSocket> contrapressao;
+    private final ObjectProvider<StompAuthInterceptor> stompAuthInterceptor;
+
+    public WebSocketConfig(ObjectProvider<ContrapressaoWebSocket> contrapressao,
+                           ObjectProvider<StompAuthInterceptor> stompAuthInterceptor) {
+        this.contrapressao = contrapressao;
+        this.stompAuthInterceptor = stompAuthInterceptor;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
         // Prefixo para mensagens que são roteadas para métodos anotados com @MessageMapping
         config.setApplicationDestinationPrefixes("/app");
 
-        // Configuração do broker simples para tópicos e filas
-        config.enableSimpleBroker("/topic", "/queue", "/user");
+        if (MODO_RELAY.equalsIgnoreCase(modoBroker)) {
+            // Broker externo: todas as instâncias publicam e recebem pelo mesmo broker
+            StompBrokerRelayRegistration relay = config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    // Mensagens /user para sessões conectadas em outra instância
+                    .setUserDestinationBroadcast("/topic/unresolved-user-destination")
+                    .setUserRegistryBroadcast("/topic/simp-user-registry");
+            if (!relayVirtualHost.isBlank()) {
+                relay.setVirtualHost(relayVirtualHost);
+            }
+            log.info("📡 Broker STOMP em modo relay: {}:{}", relayHost, relayPort);
+        } else {
+            // Configuração do broker simples para tópicos e filas
+            config.enableSimpleBroker("/topic", "/queue", "/user");
+            log.info("📡 Broker STOMP em memória (simple)");
+        }
 
         // Prefixo para mensagens direcionadas a usuários específicos
         config.setUserDestinationPrefix("/user");
@@ -40,4 +125,46 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
 
     }
-}
\ No newline at end of file
+
+    // ============================================================
+    // 🔹 LIMITES DOS CANAIS E DO TRANSPORTE
+    // ============================================================
+
+    // Fila cheia: quem publica executa a tarefa (CallerRunsPolicy) em vez de receber RejectedExecutionException.
+    // Na entrada, a thread de leitura do WebSocket processa o frame e deixa de ler o socket até terminar,
+    // freando o cliente que inunda o servidor. Na saída, um burst de fan-out (centenas de sessões x LOTE)
+    // passa a ser enviado pela thread do broker; o envio só enfileira na SessaoComContrapressao e não
+    // bloqueia em socket lento, então nenhuma mensagem é perdida e a thread não fica presa.
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(executorCanal(inboundThreads));
+
+        // Identidade resolvida no CONNECT e reaproveitada por todas as mensagens da sessão
+        stompAuthInterceptor.ifAvailable(registration::interceptors);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor(executorCanal(outboundThreads));
+    }
+
+    // Inicializado pelo próprio Spring: o executor vira o bean clientInbound/OutboundChannelExecutor
+    private ThreadPoolTaskExecutor executorCanal(int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(filaCanal);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(tempoLimiteEnvioMs)
+                .setSendBufferSizeLimit(bufferLimiteKb * 1024)
+                .setMessageSizeLimit(mensagemLimiteKb * 1024);
+
+        // Fila de saída limitada por sessão: cliente lento perde mensagens antigas em vez de travar os demais
+        contrapressao.ifAvailable(registration::addDecoratorFactory);
+    }
+}
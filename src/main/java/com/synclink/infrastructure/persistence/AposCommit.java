@@ -0,0 +1,28 @@
+package com.synclink.infrastructure.persistence;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Adia efeitos externos (notificações, métricas) para depois do commit da transação atual.
+ * Se a transação for desfeita, ou repetida pelo {@link OptimisticLockRetry}, a ação da
+ * tentativa descartada nunca roda. Sem transação ativa, executa na hora.
+ */
+public final class AposCommit {
+
+    private AposCommit() {
+    }
+
+    public static void executar(Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                acao.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,157 @@
+package com.synclink.infrastructure.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Collectors;
+
+/**
+ * 🐢 Perfil de consultas lentas: comandos JDBC acima do limite entram num buffer circular
+ * em memória com SQL, duração e a origem da chamada (primeiro método da aplicação na pilha).
+ * A comparação com o limite é o único custo das consultas rápidas; a pilha só é percorrida
+ * para as lentas sorteadas pela amostragem. Leitura em /actuator/consultaslentas.
+ */
+@Component
+public class ConsultasLentas implements QueryExecutionListener, MeterBinder {
+
+    public record Registro(LocalDateTime quando,
+                           long duracaoMs,
+                           String sql,
+                           int lote,
+                           boolean sucesso,
+                           String origem,
+                           String thread) {
+    }
+
+    private static final int TAMANHO_MAXIMO_SQL = 2000;
+    private static final String PACOTE_APLICACAO = "com.synclink.";
+    private static final String PACOTE_PERSISTENCIA = "com.synclink.infrastructure.persistence.";
+
+    private final long limiteMs;
+    private final double amostragem;
+    private final AtomicReferenceArray<Registro> buffer;
+    private final AtomicLong proximo = new AtomicLong();
+    private final AtomicLong totalLentas = new AtomicLong();
+
+    // Registrado em bindTo: este bean é criado junto com o DataSource, antes do MeterRegistry
+    private volatile Counter contadorLentas;
+
+    public ConsultasLentas(@Value("${sync.sql.lentas.limite-ms:200}") long limiteMs,
+                           @Value("${sync.sql.lentas.amostragem:1.0}") double amostragem,
+                           @Value("${sync.sql.lentas.capacidade:200}") int capacidade) {
+        this.limiteMs = Math.max(0, limiteMs);
+        this.amostragem = Math.min(1.0, Math.max(0.0, amostragem));
+        this.buffer = new AtomicReferenceArray<>(Math.max(1, capacidade));
+    }
+
+    // ============================================================
+    // 🔹 CAPTURA
+    // ============================================================
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long duracaoMs = execInfo.getElapsedTime();
+        if (duracaoMs < limiteMs) {
+            return;
+        }
+
+        totalLentas.incrementAndGet();
+        Counter contador = contadorLentas;
+        if (contador != null) {
+            contador.increment();
+        }
+        if (amostragem < 1.0 && ThreadLocalRandom.current().nextDouble() >= amostragem) {
+            return;
+        }
+
+        Registro registro = new Registro(
+                LocalDateTime.now(),
+                duracaoMs,
+                sql(queryInfoList),
+                execInfo.isBatch() ? execInfo.getBatchSize() : 1,
+                execInfo.isSuccess(),
+                origem(),
+                Thread.currentThread().getName());
+        buffer.set((int) (proximo.getAndIncrement() % buffer.length()), registro);
+    }
+
+    // ============================================================
+    // 🔹 CONSULTA
+    // ============================================================
+
+    /** Registros guardados, do mais recente para o mais antigo. */
+    public List<Registro> recentes() {
+        int capacidade = buffer.length();
+        long fim = proximo.get();
+        List<Registro> registros = new ArrayList<>(capacidade);
+        for (long i = fim - 1; i >= Math.max(0, fim - capacidade); i--) {
+            Registro registro = buffer.get((int) (i % capacidade));
+            if (registro != null) {
+                registros.add(registro);
+            }
+        }
+        return registros;
+    }
+
+    public long getTotalLentas() {
+        return totalLentas.get();
+    }
+
+    public long getLimiteMs() {
+        return limiteMs;
+    }
+
+    public double getAmostragem() {
+        return amostragem;
+    }
+
+    public void limpar() {
+        for (int i = 0; i < buffer.length(); i++) {
+            buffer.set(i, null);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        contadorLentas = Counter.builder("sync.sql.lentas")
+                .description("Comandos JDBC acima do limite de sync.sql.lentas.limite-ms")
+                .register(registry);
+    }
+
+    // ============================================================
+    // 🔹 MÉTODOS AUXILIARES
+    // ============================================================
+
+    private static String sql(List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+        return sql.length() > TAMANHO_MAXIMO_SQL ? sql.substring(0, TAMANHO_MAXIMO_SQL) + "..." : sql;
+    }
+
+    // Primeiro quadro da aplicação fora da camada de persistência e dos proxies gerados (CGLIB)
+    private static String origem() {
+        return StackWalker.getInstance().walk(quadros -> quadros
+                .filter(q -> q.getClassName().startsWith(PACOTE_APLICACAO)
+                        && !q.getClassName().startsWith(PACOTE_PERSISTENCIA)
+                        && !q.getClassName().contains("$$"))
+                .findFirst()
+                .map(q -> q.getClassName().substring(q.getClassName().lastIndexOf('.') + 1)
+                        + "." + q.getMethodName() + ":" + q.getLineNumber())
+                .orElse("desconhecida"));
+    }
+}
@@ -0,0 +1,38 @@
+package com.synclink.infrastructure.persistence;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Envolve o DataSource num proxy que mede cada comando JDBC e entrega o tempo a
+ * {@link ConsultasLentas}. Desligado com sync.sql.lentas.habilitado=false.
+ */
+@Component
+public class ConsultasLentasDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<ConsultasLentas> consultasLentas;
+    private final boolean habilitado;
+
+    // ObjectProvider: o perfil só é criado quando o DataSource aparece, não junto com os post-processors
+    public ConsultasLentasDataSourcePostProcessor(ObjectProvider<ConsultasLentas> consultasLentas,
+                                                  @Value("${sync.sql.lentas.habilitado:true}") boolean habilitado) {
+        this.consultasLentas = consultasLentas;
+        this.habilitado = habilitado;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!habilitado || !(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        return ProxyDataSourceBuilder.create(beanName, dataSource)
+                .listener(consultasLentas.getObject())
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.synclink.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Endpoint /actuator/consultaslentas: últimas consultas acima do limite, com a origem da chamada.
+ * DELETE esvazia o buffer.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "consultaslentas")
+public class ConsultasLentasEndpoint {
+
+    private final ConsultasLentas consultasLentas;
+
+    @ReadOperation
+    public Map<String, Object> consultas() {
+        Map<String, Object> resposta = new LinkedHashMap<>();
+        resposta.put("limiteMs", consultasLentas.getLimiteMs());
+        resposta.put("amostragem", consultasLentas.getAmostragem());
+        resposta.put("totalLentas", consultasLentas.getTotalLentas());
+        resposta.put("registros", consultasLentas.recentes());
+        return resposta;
+    }
+
+    @DeleteOperation
+    public void limpar() {
+        consultasLentas.limpar();
+    }
+}
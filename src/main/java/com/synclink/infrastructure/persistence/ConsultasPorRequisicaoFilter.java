@@ -0,0 +1,47 @@
+package com.synclink.infrastructure.persistence;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Publica quantos comandos SQL cada requisição HTTP executou (sync.http.consultas{metodo,uri}).
+ * A uri é o padrão mapeado (/api/pedidos/{id}), não o caminho real, para manter a cardinalidade baixa.
+ */
+@Component
+public class ConsultasPorRequisicaoFilter extends OncePerRequestFilter {
+
+    private final ContadorConsultas contadorConsultas;
+    private final MeterRegistry meterRegistry;
+
+    public ConsultasPorRequisicaoFilter(ContadorConsultas contadorConsultas, MeterRegistry meterRegistry) {
+        this.contadorConsultas = contadorConsultas;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        contadorConsultas.iniciar();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int consultas = contadorConsultas.finalizar();
+            Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder("sync.http.consultas")
+                    .description("Comandos SQL executados por requisição HTTP")
+                    .tag("metodo", request.getMethod())
+                    .tag("uri", padrao != null ? padrao.toString() : "UNKNOWN")
+                    .register(meterRegistry)
+                    .record(consultas);
+        }
+    }
+}
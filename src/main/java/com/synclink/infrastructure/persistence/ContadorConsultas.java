@@ -0,0 +1,63 @@
+package com.synclink.infrastructure.persistence;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Conta os comandos SQL preparados pelo Hibernate na thread atual, entre {@link #iniciar()}
+ * e {@link #finalizar()}. Fora desse intervalo o inspetor não faz nada além de devolver o SQL.
+ * Entre {@link #iniciarCaptura()} e {@link #finalizarCaptura()} guarda também o texto de cada comando
+ * (usado pelos testes para inspecionar o SQL que o Hibernate realmente gera).
+ */
+@Component
+public class ContadorConsultas implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<int[]> CONTADOR = new ThreadLocal<>();
+    private static final ThreadLocal<List<String>> CAPTURA = new ThreadLocal<>();
+
+    public void iniciar() {
+        CONTADOR.set(new int[1]);
+    }
+
+    /** Total contado desde {@link #iniciar()}; encerra a contagem da thread. */
+    public int finalizar() {
+        int[] contador = CONTADOR.get();
+        CONTADOR.remove();
+        return contador != null ? contador[0] : 0;
+    }
+
+    public void iniciarCaptura() {
+        CAPTURA.set(new ArrayList<>());
+    }
+
+    /** Comandos preparados desde {@link #iniciarCaptura()}, na ordem; encerra a captura da thread. */
+    public List<String> finalizarCaptura() {
+        List<String> comandos = CAPTURA.get();
+        CAPTURA.remove();
+        return comandos != null ? comandos : List.of();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] contador = CONTADOR.get();
+        if (contador != null) {
+            contador[0]++;
+        }
+        List<String> comandos = CAPTURA.get();
+        if (comandos != null) {
+            comandos.add(sql);
+        }
+        return sql;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+}
@@ -0,0 +1,69 @@
+package com.synclink.infrastructure.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Executa uma operação de escrita em transação própria e a repete quando outra
+ * transação alterou a mesma entidade versionada (@Version) no meio do caminho.
+ * Cada tentativa relê o estado atual, então nenhuma alteração concorrente é perdida.
+ */
+@Slf4j
+@Component
+public class OptimisticLockRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxTentativas;
+    private final long esperaBaseMs;
+
+    public OptimisticLockRetry(PlatformTransactionManager transactionManager,
+                               @Value("${sync.concorrencia.max-tentativas:3}") int maxTentativas,
+                               @Value("${sync.concorrencia.espera-base-ms:20}") long esperaBaseMs) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxTentativas = Math.max(1, maxTentativas);
+        this.esperaBaseMs = Math.max(0, esperaBaseMs);
+    }
+
+    public <T> T executar(Supplier<T> operacao) {
+        // Dentro de uma transação externa não é possível repetir só este trecho:
+        // o conflito sobe para quem abriu a transação
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return operacao.get();
+        }
+
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                return transactionTemplate.execute(status -> operacao.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (tentativa >= maxTentativas) {
+                    log.warn("⚠️ Conflito de concorrência persistiu após {} tentativas", tentativa);
+                    throw e;
+                }
+                log.debug("🔁 Conflito de concorrência na tentativa {}/{}, repetindo", tentativa, maxTentativas);
+                aguardar(tentativa);
+            }
+        }
+    }
+
+    private void aguardar(int tentativa) {
+        if (esperaBaseMs == 0) {
+            return;
+        }
+        // Espera crescente com jitter para que as transações concorrentes não colidam de novo
+        long espera = esperaBaseMs * tentativa + ThreadLocalRandom.current().nextLong(esperaBaseMs);
+        try {
+            Thread.sleep(espera);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Operação interrompida durante nova tentativa", e);
+        }
+    }
+}
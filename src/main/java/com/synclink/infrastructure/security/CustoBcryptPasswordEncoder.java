@@ -0,0 +1,32 @@
+package com.synclink.infrastructure.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt que pede para refazer o hash sempre que o custo gravado difere do configurado.
+ * O BCryptPasswordEncoder só atualiza hashes de custo menor; aqui baixar o custo (ex.: para
+ * aliviar a CPU dos logins) também vale para as senhas já gravadas, no próximo login de cada usuário.
+ */
+public class CustoBcryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern CUSTO = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final int custo;
+
+    public CustoBcryptPasswordEncoder(int custo) {
+        super(custo);
+        this.custo = custo;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        Matcher matcher = encodedPassword != null ? CUSTO.matcher(encodedPassword) : null;
+        if (matcher == null || !matcher.find()) {
+            return super.upgradeEncoding(encodedPassword);
+        }
+        return Integer.parseInt(matcher.group(1)) != custo;
+    }
+}
@@ -1,6 +1,5 @@
 package com.synclink.infrastructure.security;
 
-import com.synclink.application.service.AuthService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,7 +8,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -26,7 +24,7 @@ import java.io.IOException;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final AuthService authService;
+    private final PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -50,18 +48,28 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         }
 
         final String jwt = authHeader.substring(7);
-        final String username = jwtService.extractUsername(jwt);
+
+        // ✅ Uma única validação do token (assinatura e expiração) fornece email e ID
+        final JwtService.TokenInfo token;
+        try {
+            token = jwtService.parseToken(jwt);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Token JWT inválido ou expirado: {}", e.getMessage());
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        final String username = token.subject();
 
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = authService.loadUserByUsername(username);
+            UsuarioAutenticado usuario = principalCache.obter(token);
 
-            // ✅ Valida o token corretamente com UserDetails
-            if (jwtService.isTokenValid(jwt, userDetails)) {
+            if (usuario.isEnabled()) {
                 UsernamePasswordAuthenticationToken authToken =
                         new UsernamePasswordAuthenticationToken(
-                                userDetails,
+                                usuario,
                                 null,
-                                userDetails.getAuthorities()
+                                usuario.getAuthorities()
                         );
 
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -69,7 +77,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
                 log.debug("✅ JWT autenticado com sucesso para o usuário: {}", username);
             } else {
-                log.warn("⚠️ Token JWT inválido ou expirado para o usuário {}", username);
+                log.warn("⚠️ Usuário {} inativo; token JWT ignorado", username);
             }
         }
 
@@ -78,6 +86,8 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     /**
      * Define os caminhos que não precisam de autenticação.
+     * O handshake /ws fica livre porque navegadores não enviam cabeçalhos nele;
+     * o JWT é exigido no CONNECT STOMP (StompAuthInterceptor).
      */
     private boolean isPublicPath(String path) {
         return path.startsWith("/auth")
@@ -6,21 +6,43 @@ import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 
 import java.security.Key;
 import java.util.Date;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 
 @Service
 public class JwtService {
 
-    @Value("${sync.security.jwt.secret}")
-    private String secretKey;
+    // Dados do token obtidos em uma única validação (assinatura + expiração)
+    public record TokenInfo(String subject, String id, Date expiracao) {
+    }
+
+    // Claims já validadas na requisição atual (o filtro e os controllers leem o mesmo token)
+    private record ClaimsDoToken(String token, Claims claims) {
+    }
+
+    private static final String ATRIBUTO_CLAIMS = JwtService.class.getName() + ".claims";
 
-    @Value("${sync.security.jwt.expiration-minutes}")
-    private long expirationMinutes;
+    private final long expirationMinutes;
+
+    // Chave e parser são imutáveis e thread-safe: montados uma única vez na inicialização
+    private final Key signInKey;
+    private final JwtParser parser;
+
+    public JwtService(@Value("${sync.security.jwt.secret}") String secretKey,
+                      @Value("${sync.security.jwt.expiration-minutes}") long expirationMinutes) {
+        this.expirationMinutes = expirationMinutes;
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+    }
 
     // ============================================================
     // 🔹 GERAÇÃO DO TOKEN
@@ -36,15 +58,21 @@ public class JwtService {
         return Jwts.builder()
                 .setClaims(extraClaims)
                 .setSubject(username)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiration)
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     // ============================================================
     // 🔹 EXTRAÇÃO DE DADOS
     // ============================================================
+    public TokenInfo parseToken(String token) {
+        Claims claims = extractAllClaims(token);
+        return new TokenInfo(claims.getSubject(), claims.getId(), claims.getExpiration());
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -55,12 +83,23 @@ public class JwtService {
     }
 
     private Claims extractAllClaims(String token) {
+        RequestAttributes requisicao = RequestContextHolder.getRequestAttributes();
+        if (requisicao != null
+                && requisicao.getAttribute(ATRIBUTO_CLAIMS, RequestAttributes.SCOPE_REQUEST) instanceof ClaimsDoToken memo
+                && memo.token().equals(token)) {
+            return memo.claims();
+        }
+
+        Claims claims = parseClaims(token);
+        if (requisicao != null) {
+            requisicao.setAttribute(ATRIBUTO_CLAIMS, new ClaimsDoToken(token, claims), RequestAttributes.SCOPE_REQUEST);
+        }
+        return claims;
+    }
+
+    private Claims parseClaims(String token) {
         try {
-            return Jwts.parserBuilder()
-                    .setSigningKey(getSignInKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return parser.parseClaimsJws(token).getBody();
         } catch (ExpiredJwtException e) {
             throw new RuntimeException("Token expirado.");
         } catch (JwtException e) {
@@ -76,11 +115,6 @@ public class JwtService {
         return extractClaim(token, Claims::getExpiration);
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
     // ============================================================
     // ✅ NOVA VERSÃO — compatível com JwtAuthFilter
     // ============================================================
@@ -0,0 +1,65 @@
+package com.synclink.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.synclink.application.service.AuthService;
+import com.synclink.model.Usuario;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 🗃️ Cache dos usuários autenticados por token (email + ID do token),
+ * evitando uma consulta ao banco em cada requisição do JwtAuthFilter.
+ * Guarda apenas {@link UsuarioAutenticado}, nunca a entidade gerenciada.
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    // Publicado quando dados, status ou senha de um usuário mudam; as entradas dele são descartadas após o commit
+    public record UsuarioAlterado(String email) {
+    }
+
+    private final AuthService authService;
+    private final Cache<String, UsuarioAutenticado> cache;
+
+    public PrincipalCache(AuthService authService,
+                          MeterRegistry meterRegistry,
+                          @Value("${sync.security.principal-cache.max-size:5000}") long maxSize,
+                          @Value("${sync.security.principal-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.authService = authService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principais");
+    }
+
+    public UsuarioAutenticado obter(JwtService.TokenInfo token) {
+        return cache.get(chave(token), k -> UsuarioAutenticado.de((Usuario) authService.loadUserByUsername(token.subject())));
+    }
+
+    public void invalidar(String email) {
+        String prefixo = email + ":";
+        cache.asMap().keySet().removeIf(chave -> chave.startsWith(prefixo));
+        log.debug("🗃️ Cache de autenticação invalidado para {}", email);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUsuarioAlterado(UsuarioAlterado event) {
+        invalidar(event.email());
+    }
+
+    // Tokens emitidos antes do jti usam a expiração como identificador
+    private String chave(JwtService.TokenInfo token) {
+        String id = token.id() != null ? token.id() : String.valueOf(token.expiracao().getTime());
+        return token.subject() + ":" + id;
+    }
+}
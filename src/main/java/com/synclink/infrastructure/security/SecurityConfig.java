@@ -64,6 +64,13 @@ public class SecurityConfig {
                                 "/ws-test/**"
                         ).permitAll()
 
+                        // Coleta do Prometheus: sem JWT (o coletor não tem usuário). O actuator só existe na
+                        // porta de gerenciamento (management.server.port/address), ligada à interface interna
+                        .requestMatchers(HttpMethod.GET, "/actuator/prometheus").permitAll()
+
+                        // Cardápio (consultado também pelos clientes)
+                        .requestMatchers(HttpMethod.GET, "/api/cardapio").permitAll()
+
                         // Rotas autenticadas
                         .requestMatchers(
                                 "/auth/me",
@@ -79,6 +86,9 @@ public class SecurityConfig {
                         .requestMatchers("/api/caixa/**").hasAnyRole("ADMIN", "GERENTE", "CAIXA")
                         .requestMatchers("/api/usuarios/**").authenticated()
 
+                        // Actuator (métricas, caches, presença, consultas lentas): inclui operações de escrita
+                        .requestMatchers("/actuator/**").hasAnyRole("ADMIN", "GERENTE")
+
                         // Qualquer outra rota requer autenticação
                         .anyRequest().authenticated()
                 )
@@ -102,6 +112,8 @@ public class SecurityConfig {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(authService);
         provider.setPasswordEncoder(passwordConfig.passwordEncoder());
+        // Refaz o hash com o custo atual quando a senha armazenada usa um custo antigo
+        provider.setUserDetailsPasswordService(authService);
         return provider;
     }
 
@@ -0,0 +1,164 @@
+package com.synclink.infrastructure.security;
+
+import com.synclink.infrastructure.websocket.UsuarioWebSocket;
+import com.synclink.model.enums.PerfilUsuario;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Component;
+
+import java.security.Principal;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 🔐 Autenticação e autorização STOMP.
+ * <ul>
+ *     <li>CONNECT: o JWT (cabeçalho Authorization: Bearer ...) é validado uma única vez e a identidade
+ *     fica associada à sessão; sem token válido a conexão é recusada.</li>
+ *     <li>SEND / SUBSCRIBE: exigem sessão autenticada; SUBSCRIBE em tópicos restritos é conferido
+ *     contra o perfil do usuário em uma tabela montada na inicialização.</li>
+ *     <li>SEND só para destinos da aplicação (/app/...): um SEND direto a /topic ou /queue seria
+ *     repassado pelo broker a todos os assinantes, permitindo forjar eventos de pedido ou pagamento.</li>
+ *     <li>SUBSCRIBE com curingas (* ? { } #) é recusado: o broker os expande e a tabela, que compara
+ *     o destino literal, seria contornada (ex.: /topic/* ou, no relay, /topic/#).</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthInterceptor implements ChannelInterceptor {
+
+    private static final String CABECALHO_AUTORIZACAO = "Authorization";
+    private static final String PREFIXO_BEARER = "Bearer ";
+    private static final String PREFIXO_TOPICO_PERFIL = "/topic/perfil";
+    private static final String CURINGAS = "*?{}#";
+    private static final String PREFIXO_APLICACAO = "/app/";
+
+    // Tópicos restritos -> perfis autorizados (ADMIN acessa todos); tópicos fora da tabela são livres
+    // para qualquer usuário autenticado. A chave é o destino até o primeiro "." (ex.: /topic/grupo.x.y -> /topic/grupo)
+    private static final Map<String, Set<PerfilUsuario>> REGRAS_ASSINATURA = Map.of(
+            "/topic/caixa", EnumSet.of(PerfilUsuario.CAIXA, PerfilUsuario.GERENTE),
+            "/topic/pagamentos", EnumSet.of(PerfilUsuario.CAIXA, PerfilUsuario.GERENTE),
+            "/topic/gerente", EnumSet.of(PerfilUsuario.GERENTE),
+            "/topic/estoque", EnumSet.of(PerfilUsuario.GERENTE)
+    );
+
+    private final JwtService jwtService;
+    private final PrincipalCache principalCache;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        switch (accessor.getCommand()) {
+            case CONNECT, STOMP -> autenticar(accessor);
+            case SUBSCRIBE -> autorizarAssinatura(usuarioDaSessao(accessor), accessor.getDestination());
+            case SEND -> autorizarEnvio(usuarioDaSessao(accessor), accessor.getDestination());
+            default -> {
+                // DISCONNECT, UNSUBSCRIBE, ACK...: não levam dados ao broker
+            }
+        }
+        return message;
+    }
+
+    // ============================================================
+    // 🔹 CONNECT
+    // ============================================================
+
+    private void autenticar(StompHeaderAccessor accessor) {
+        UsuarioWebSocket usuario = resolverUsuario(accessor);
+        if (usuario == null) {
+            throw new BadCredentialsException("Token JWT ausente ou inválido no CONNECT");
+        }
+        accessor.setUser(usuario);
+        log.debug("🔗 Sessão STOMP {} autenticada como {} ({})", accessor.getSessionId(), usuario.email(), usuario.perfil());
+    }
+
+    private UsuarioWebSocket resolverUsuario(StompHeaderAccessor accessor) {
+        String authHeader = accessor.getFirstNativeHeader(CABECALHO_AUTORIZACAO);
+        if (authHeader == null || !authHeader.startsWith(PREFIXO_BEARER)) {
+            return null;
+        }
+
+        try {
+            JwtService.TokenInfo token = jwtService.parseToken(authHeader.substring(PREFIXO_BEARER.length()));
+            UsuarioAutenticado usuario = principalCache.obter(token);
+            if (!usuario.isEnabled()) {
+                log.warn("⚠️ Usuário {} inativo; CONNECT STOMP recusado", token.subject());
+                return null;
+            }
+            return new UsuarioWebSocket(usuario.email(), usuario.id(), usuario.perfil());
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Token JWT inválido no CONNECT STOMP: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // ============================================================
+    // 🔹 SUBSCRIBE / SEND
+    // ============================================================
+
+    private UsuarioWebSocket usuarioDaSessao(StompHeaderAccessor accessor) {
+        Principal user = accessor.getUser();
+        if (user instanceof UsuarioWebSocket usuario) {
+            return usuario;
+        }
+        throw new AccessDeniedException("Sessão STOMP não autenticada");
+    }
+
+    private void autorizarAssinatura(UsuarioWebSocket usuario, String destino) {
+        if (destino == null) {
+            return;
+        }
+        if (contemCuringa(destino)) {
+            log.warn("🚫 Assinatura com curinga {} negada para {} ({})", destino, usuario.email(), usuario.perfil());
+            throw new AccessDeniedException("Destino com curinga não é permitido: " + destino);
+        }
+        if (usuario.perfil() == PerfilUsuario.ADMIN) {
+            return;
+        }
+
+        String chave = chaveRegra(destino);
+        boolean permitido;
+        if (PREFIXO_TOPICO_PERFIL.equals(chave)) {
+            // /topic/perfil.{PERFIL}.{destino}: só o próprio perfil
+            permitido = destino.startsWith(PREFIXO_TOPICO_PERFIL + "." + usuario.perfil().name() + ".");
+        } else {
+            Set<PerfilUsuario> perfis = REGRAS_ASSINATURA.get(chave);
+            permitido = perfis == null || perfis.contains(usuario.perfil());
+        }
+
+        if (!permitido) {
+            log.warn("🚫 Assinatura de {} negada para {} ({})", destino, usuario.email(), usuario.perfil());
+            throw new AccessDeniedException("Perfil " + usuario.perfil() + " não pode assinar " + destino);
+        }
+    }
+
+    // Só os @MessageMapping publicam nos tópicos; o cliente nunca fala direto com o broker
+    private void autorizarEnvio(UsuarioWebSocket usuario, String destino) {
+        if (destino == null || !destino.startsWith(PREFIXO_APLICACAO)) {
+            log.warn("🚫 SEND para {} negado para {} ({})", destino, usuario.email(), usuario.perfil());
+            throw new AccessDeniedException("SEND permitido apenas para destinos " + PREFIXO_APLICACAO + "...: " + destino);
+        }
+    }
+
+    private static boolean contemCuringa(String destino) {
+        return destino.chars().anyMatch(c -> CURINGAS.indexOf(c) >= 0);
+    }
+
+    private static String chaveRegra(String destino) {
+        int ponto = destino.indexOf('.', destino.lastIndexOf('/') + 1);
+        return ponto < 0 ? destino : destino.substring(0, ponto);
+    }
+}
@@ -0,0 +1,58 @@
+package com.synclink.infrastructure.security;
+
+import com.synclink.model.Usuario;
+import com.synclink.model.enums.PerfilUsuario;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Principal das requisições autenticadas por JWT: cópia imutável dos dados do usuário no
+ * momento da carga. Pode ser compartilhada entre threads pelo {@link PrincipalCache},
+ * ao contrário da entidade {@link Usuario}, que pertence à sessão JPA que a carregou.
+ */
+public record UsuarioAutenticado(Long id, String email, PerfilUsuario perfil, boolean ativo) implements UserDetails {
+
+    public static UsuarioAutenticado de(Usuario usuario) {
+        return new UsuarioAutenticado(usuario.getId(), usuario.getEmail(), usuario.getPerfil(), usuario.isEnabled());
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + perfil.name()));
+    }
+
+    // A senha não é copiada: o JWT já foi validado e o principal nunca é usado para login
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return ativo;
+    }
+}
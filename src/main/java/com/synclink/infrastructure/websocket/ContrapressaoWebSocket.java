@@ -0,0 +1,89 @@
+package com.synclink.infrastructure.websocket;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Limites de envio por sessão WebSocket (tempo, buffer e política de descarte).
+ * Registrado em WebSocketConfig como decorador do handler: cada sessão nova é
+ * envolvida em uma {@link SessaoComContrapressao}.
+ */
+@Component
+public class ContrapressaoWebSocket implements WebSocketHandlerDecoratorFactory, AutoCloseable {
+
+    private final long tempoLimiteEnvioMs;
+    private final int bufferLimiteBytes;
+    private final List<String> topicosEstado;
+    private final MeterRegistry meterRegistry;
+    private final Counter sessoesLentas;
+
+    // Uma thread virtual por envio em andamento: uma sessão travada prende só a própria thread
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ContrapressaoWebSocket(MeterRegistry meterRegistry,
+                                  @Value("${sync.websocket.envio.tempo-limite-ms:10000}") long tempoLimiteEnvioMs,
+                                  @Value("${sync.websocket.envio.buffer-limite-kb:512}") int bufferLimiteKb,
+                                  @Value("${sync.websocket.contrapressao.topicos-estado:/topic/mesas}") List<String> topicosEstado) {
+        this.meterRegistry = meterRegistry;
+        this.tempoLimiteEnvioMs = tempoLimiteEnvioMs;
+        this.bufferLimiteBytes = bufferLimiteKb * 1024;
+        this.topicosEstado = List.copyOf(topicosEstado);
+        this.sessoesLentas = Counter.builder("sync.websocket.sessoes.lentas")
+                .description("Sessões desconectadas por excederem o tempo limite de envio")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                super.afterConnectionEstablished(new SessaoComContrapressao(session, ContrapressaoWebSocket.this, executor));
+            }
+        };
+    }
+
+    // Tópicos de estado: cada mensagem substitui a anterior do mesmo agregado e tipo, então só a última pendente precisa ser enviada
+    public boolean isTopicoEstado(String destino) {
+        if (destino == null) {
+            return false;
+        }
+        for (String prefixo : topicosEstado) {
+            if (destino.startsWith(prefixo)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void registrarDescarte(String motivo) {
+        meterRegistry.counter("sync.websocket.mensagens.descartadas", "motivo", motivo).increment();
+    }
+
+    public void registrarSessaoLentaDesconectada() {
+        sessoesLentas.increment();
+    }
+
+    public long getTempoLimiteEnvioMs() {
+        return tempoLimiteEnvioMs;
+    }
+
+    public int getBufferLimiteBytes() {
+        return bufferLimiteBytes;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,30 @@
+package com.synclink.infrastructure.websocket;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Endpoint /actuator/presenca: sessões WebSocket abertas por perfil e por tópico.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "presenca")
+public class PresencaEndpoint {
+
+    private final PresencaWebSocket presenca;
+
+    @ReadOperation
+    public PresencaWebSocket.Resumo resumo() {
+        return presenca.resumo();
+    }
+
+    @ReadOperation
+    public Map<String, Object> usuario(@Selector String usuario) {
+        return Map.of("usuario", usuario, "sessoes", presenca.getSessoesDoUsuario(usuario));
+    }
+}
@@ -0,0 +1,201 @@
+package com.synclink.infrastructure.websocket;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.security.Principal;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 👥 Registro de presença WebSocket: sessões abertas por usuário, por perfil e por tópico assinado.
+ * Alimentado pelos eventos de sessão do STOMP; os contadores são atômicos, sem lock global.
+ */
+@Slf4j
+@Component
+public class PresencaWebSocket {
+
+    public static final String ANONIMO = "Anonymous";
+    public static final String PERFIL_DESCONHECIDO = "DESCONHECIDO";
+
+    public record Resumo(int sessoes,
+                         int usuarios,
+                         Map<String, Integer> porPerfil,
+                         Map<String, Integer> porTopico) {
+    }
+
+    // Dados de uma sessão aberta; assinaturas: subscriptionId -> destino
+    private record Sessao(String usuario, String perfil, ConcurrentMap<String, String> assinaturas) {
+    }
+
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentMap<String, Sessao> sessoes = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicInteger> porUsuario = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicInteger> porPerfil = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicInteger> porTopico = new ConcurrentHashMap<>();
+    private final AtomicInteger total = new AtomicInteger();
+
+    public PresencaWebSocket(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("sync.websocket.sessoes.ativas", total, AtomicInteger::get)
+                .description("Sessões WebSocket abertas nesta instância")
+                .register(meterRegistry);
+        Gauge.builder("sync.websocket.usuarios.conectados", porUsuario, Map::size)
+                .description("Usuários distintos com ao menos uma sessão aberta")
+                .register(meterRegistry);
+    }
+
+    // ============================================================
+    // 🔹 EVENTOS DE SESSÃO
+    // ============================================================
+
+    // SessionConnectedEvent (e não SessionConnectEvent): já traz o Principal definido no CONNECT
+    @EventListener
+    public void onConnect(SessionConnectedEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        String sessionId = accessor.getSessionId();
+        if (sessionId == null) {
+            return;
+        }
+
+        Principal user = event.getUser();
+        Sessao sessao = new Sessao(user != null ? user.getName() : ANONIMO, perfilDe(user), new ConcurrentHashMap<>());
+        if (sessoes.putIfAbsent(sessionId, sessao) != null) {
+            return;
+        }
+
+        total.incrementAndGet();
+        incrementar(porUsuario, sessao.usuario());
+        contadorPerfil(sessao.perfil()).incrementAndGet();
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        // O evento pode ser publicado mais de uma vez para a mesma sessão: só a primeira remoção conta
+        Sessao sessao = sessoes.remove(event.getSessionId());
+        if (sessao == null) {
+            return;
+        }
+
+        total.decrementAndGet();
+        decrementar(porUsuario, sessao.usuario());
+        contadorPerfil(sessao.perfil()).decrementAndGet();
+        sessao.assinaturas().values().forEach(destino -> decrementar(porTopico, destino));
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Sessao sessao = sessao(event.getMessage());
+        String destino = accessor.getDestination();
+        if (sessao == null || accessor.getSubscriptionId() == null || destino == null) {
+            return;
+        }
+
+        if (sessao.assinaturas().putIfAbsent(accessor.getSubscriptionId(), destino) == null) {
+            incrementar(porTopico, destino);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+        Sessao sessao = sessao(event.getMessage());
+        if (sessao == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        String destino = sessao.assinaturas().remove(accessor.getSubscriptionId());
+        if (destino != null) {
+            decrementar(porTopico, destino);
+        }
+    }
+
+    // ============================================================
+    // 🔹 CONSULTA
+    // ============================================================
+
+    public int getTotalSessoes() {
+        return total.get();
+    }
+
+    public int getSessoesDoUsuario(String usuario) {
+        AtomicInteger contador = porUsuario.get(usuario);
+        return contador != null ? contador.get() : 0;
+    }
+
+    public Resumo resumo() {
+        return new Resumo(total.get(), porUsuario.size(), copiar(porPerfil), copiar(porTopico));
+    }
+
+    // ============================================================
+    // 🔹 MÉTODOS AUXILIARES
+    // ============================================================
+
+    private Sessao sessao(Message<?> message) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        return sessionId != null ? sessoes.get(sessionId) : null;
+    }
+
+    private static String perfilDe(Principal user) {
+        if (user instanceof UsuarioWebSocket usuario && usuario.perfil() != null) {
+            return usuario.perfil().name();
+        }
+        if (user instanceof Authentication auth) {
+            for (GrantedAuthority authority : auth.getAuthorities()) {
+                String nome = authority.getAuthority();
+                if (nome != null && nome.startsWith("ROLE_")) {
+                    return nome.substring("ROLE_".length());
+                }
+            }
+        }
+        return PERFIL_DESCONHECIDO;
+    }
+
+    // Perfis são poucos: cada um ganha um gauge próprio na primeira sessão
+    private AtomicInteger contadorPerfil(String perfil) {
+        return porPerfil.computeIfAbsent(perfil, p -> {
+            AtomicInteger contador = new AtomicInteger();
+            Gauge.builder("sync.websocket.sessoes.perfil", contador, AtomicInteger::get)
+                    .description("Sessões WebSocket abertas por perfil de usuário")
+                    .tag("perfil", p)
+                    .register(meterRegistry);
+            return contador;
+        });
+    }
+
+    private static void incrementar(ConcurrentMap<String, AtomicInteger> contadores, String chave) {
+        // Incremento dentro do compute: não pode cair num contador que decrementar acabou de remover
+        contadores.compute(chave, (k, contador) -> {
+            AtomicInteger atual = contador != null ? contador : new AtomicInteger();
+            atual.incrementAndGet();
+            return atual;
+        });
+    }
+
+    // Remove a chave ao chegar a zero, para o mapa não crescer com usuários e tópicos antigos
+    private static void decrementar(ConcurrentMap<String, AtomicInteger> contadores, String chave) {
+        contadores.computeIfPresent(chave, (k, contador) -> contador.decrementAndGet() <= 0 ? null : contador);
+    }
+
+    private static Map<String, Integer> copiar(ConcurrentMap<String, AtomicInteger> contadores) {
+        Map<String, Integer> copia = new TreeMap<>();
+        contadores.forEach((chave, contador) -> copia.put(chave, contador.get()));
+        return copia;
+    }
+}
@@ -0,0 +1,189 @@
+package com.synclink.infrastructure.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Sessão WebSocket com fila de saída própria e limitada.
+ * <ul>
+ *     <li>sendMessage nunca bloqueia quem publica: a mensagem entra na fila e uma tarefa
+ *     dedicada à sessão faz o envio.</li>
+ *     <li>Acima do limite de bytes as mensagens mais antigas são descartadas; em tópicos de estado
+ *     (ex.: /topic/mesas) uma mensagem nova substitui a anterior ainda não enviada do mesmo destino
+ *     e do mesmo agregado e tipo (cabeçalho {@value WebSocketDispatcher#CABECALHO_ESTADO}).</li>
+ *     <li>Se um envio passar do tempo limite, a sessão é considerada lenta e é desconectada.</li>
+ * </ul>
+ */
+@Slf4j
+public class SessaoComContrapressao extends WebSocketSessionDecorator {
+
+    private final ContrapressaoWebSocket politica;
+    private final Executor executor;
+
+    private final Deque<FilaItem> fila = new ArrayDeque<>();
+    private int bytesNaFila;
+
+    private final AtomicBoolean enviando = new AtomicBoolean();
+    private final AtomicBoolean fechando = new AtomicBoolean();
+    private volatile long inicioEnvio;
+
+    // estado: tipo + agregado da mensagem substituível; nulo quando ela não pode ser substituída
+    private record FilaItem(WebSocketMessage<?> mensagem, String destino, String estado) {
+    }
+
+    public SessaoComContrapressao(WebSocketSession delegate, ContrapressaoWebSocket politica, Executor executor) {
+        super(delegate);
+        this.politica = politica;
+        this.executor = executor;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) throws IOException {
+        if (fechando.get()) {
+            return;
+        }
+
+        if (sessaoLenta()) {
+            fecharSessaoLenta();
+            return;
+        }
+
+        String destino = cabecalhoStomp(message, "destination");
+        String estado = politica.isTopicoEstado(destino)
+                ? cabecalhoStomp(message, WebSocketDispatcher.CABECALHO_ESTADO)
+                : null;
+
+        synchronized (fila) {
+            if (estado != null) {
+                // Estado completo do mesmo agregado: só o valor mais recente interessa.
+                // Deltas e lotes não têm o cabeçalho e nunca substituem nem são substituídos
+                Iterator<FilaItem> it = fila.iterator();
+                while (it.hasNext()) {
+                    FilaItem item = it.next();
+                    if (estado.equals(item.estado()) && destino.equals(item.destino())) {
+                        it.remove();
+                        bytesNaFila -= item.mensagem().getPayloadLength();
+                        politica.registrarDescarte("substituida");
+                    }
+                }
+            }
+
+            fila.addLast(new FilaItem(message, destino, estado));
+            bytesNaFila += message.getPayloadLength();
+
+            // Acima do limite: descarta as mais antigas (a recém-chegada sempre fica)
+            while (bytesNaFila > politica.getBufferLimiteBytes() && fila.size() > 1) {
+                FilaItem descartada = fila.pollFirst();
+                bytesNaFila -= descartada.mensagem().getPayloadLength();
+                politica.registrarDescarte("buffer");
+            }
+        }
+
+        if (enviando.compareAndSet(false, true)) {
+            executor.execute(this::drenar);
+        }
+    }
+
+    @Override
+    public void close(CloseStatus status) throws IOException {
+        fechando.set(true);
+        limparFila();
+        super.close(status);
+    }
+
+    // ============================================================
+    // 🔹 ENVIO
+    // ============================================================
+
+    private void drenar() {
+        while (true) {
+            FilaItem item;
+            synchronized (fila) {
+                item = fila.pollFirst();
+                if (item == null) {
+                    enviando.set(false);
+                    return;
+                }
+                bytesNaFila -= item.mensagem().getPayloadLength();
+            }
+
+            if (fechando.get() || !getDelegate().isOpen()) {
+                limparFila();
+                enviando.set(false);
+                return;
+            }
+
+            inicioEnvio = System.currentTimeMillis();
+            try {
+                getDelegate().sendMessage(item.mensagem());
+            } catch (Exception e) {
+                log.debug("Falha ao enviar para a sessão {}: {}", getId(), e.getMessage());
+                fechando.set(true);
+                limparFila();
+                enviando.set(false);
+                return;
+            } finally {
+                inicioEnvio = 0;
+            }
+        }
+    }
+
+    private boolean sessaoLenta() {
+        long inicio = inicioEnvio;
+        return inicio > 0 && System.currentTimeMillis() - inicio > politica.getTempoLimiteEnvioMs();
+    }
+
+    private void fecharSessaoLenta() {
+        if (!fechando.compareAndSet(false, true)) {
+            return;
+        }
+        int pendentes;
+        synchronized (fila) {
+            pendentes = fila.size();
+        }
+        log.warn("🐢 Sessão WebSocket {} lenta (envio > {} ms, {} mensagens na fila); desconectando",
+                getId(), politica.getTempoLimiteEnvioMs(), pendentes);
+        politica.registrarSessaoLentaDesconectada();
+        limparFila();
+        try {
+            getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (Exception e) {
+            log.debug("Falha ao fechar a sessão lenta {}: {}", getId(), e.getMessage());
+        }
+    }
+
+    private void limparFila() {
+        synchronized (fila) {
+            fila.clear();
+            bytesNaFila = 0;
+        }
+    }
+
+    // Extrai um cabeçalho de um frame STOMP MESSAGE sem decodificar o frame inteiro
+    static String cabecalhoStomp(WebSocketMessage<?> message, String nome) {
+        if (!(message instanceof TextMessage texto)) {
+            return null;
+        }
+        String frame = texto.getPayload();
+        String prefixo = "\n" + nome + ":";
+        int fimCabecalho = frame.indexOf("\n\n");
+        int inicio = frame.indexOf(prefixo);
+        if (inicio < 0 || (fimCabecalho >= 0 && inicio > fimCabecalho)) {
+            return null;
+        }
+        inicio += prefixo.length();
+        int fim = frame.indexOf('\n', inicio);
+        return fim < 0 ? null : frame.substring(inicio, fim);
+    }
+}
@@ -0,0 +1,21 @@
+package com.synclink.infrastructure.websocket;
+
+import com.synclink.model.enums.PerfilUsuario;
+
+import java.security.Principal;
+
+/**
+ * Identidade de uma sessão STOMP, resolvida uma única vez no CONNECT.
+ * Os handlers leem id e perfil daqui, sem consultar o banco a cada mensagem.
+ */
+public record UsuarioWebSocket(String email, Long id, PerfilUsuario perfil) implements Principal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public static Long idDe(Principal principal) {
+        return principal instanceof UsuarioWebSocket usuario ? usuario.id() : null;
+    }
+}
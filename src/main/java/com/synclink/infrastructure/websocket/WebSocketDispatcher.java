@@ -0,0 +1,273 @@
+package com.synclink.infrastructure.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.synclink.application.dto.WebSocketMessageDTO;
+import com.synclink.model.TiposMensagem;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 📤 Pipeline de envio WebSocket.
+ * <ul>
+ *     <li>Cada mensagem é serializada uma única vez e o mesmo payload é enviado a todos os destinos.</li>
+ *     <li>Atualizações do mesmo agregado (pedido, mesa...) dentro da janela de agrupamento
+ *     são reduzidas à última; as pendentes de um mesmo destino saem em um único frame LOTE.</li>
+ *     <li>Estado completo de um único agregado sai com o cabeçalho STOMP {@value #CABECALHO_ESTADO}
+ *     (tipo + agregado), que a contrapressão usa para substituir a versão ainda não enviada.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class WebSocketDispatcher implements AutoCloseable {
+
+    public static final String CABECALHO_ESTADO = "estado";
+
+    // Mensagem aguardando o fim da janela; json() devolve null quando não há nada a enviar.
+    // estado é nulo nas mensagens que não podem substituir a anterior (ex.: deltas)
+    private record Pendente(Supplier<byte[]> json, String estado, List<String> destinos) {
+    }
+
+    private record Pronta(byte[] json, String estado) {
+    }
+
+    private record MedidoresDestino(Counter enviadas, DistributionSummary bytes) {
+    }
+
+    private static final byte[] INICIO_LOTE =
+            ("{\"tipo\":\"" + TiposMensagem.LOTE + "\",\"dados\":[").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] FIM_LOTE = "]}".getBytes(StandardCharsets.UTF_8);
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectWriter writer;
+    private final long janelaMs;
+    private final MeterRegistry meterRegistry;
+
+    // Medidores por destino normalizado (ver chaveMetrica): poucos tópicos, criados uma única vez
+    private final ConcurrentMap<String, MedidoresDestino> medidores = new ConcurrentHashMap<>();
+
+    // Acesso sincronizado no próprio mapa; LinkedHashMap preserva a ordem de chegada entre agregados
+    private final Map<String, Pendente> pendentes = new LinkedHashMap<>();
+    private final AtomicBoolean descargaAgendada = new AtomicBoolean();
+    private final ScheduledExecutorService agendador = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "ws-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public WebSocketDispatcher(SimpMessagingTemplate messagingTemplate,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${sync.websocket.agrupamento.janela-ms:50}") long janelaMs) {
+        this.messagingTemplate = messagingTemplate;
+        this.meterRegistry = meterRegistry;
+        this.writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.janelaMs = janelaMs;
+    }
+
+    // ============================================================
+    // 🔹 ENVIO IMEDIATO
+    // ============================================================
+
+    public void enviar(WebSocketMessageDTO mensagem, String... destinos) {
+        byte[] json = serializar(mensagem);
+        for (String destino : destinos) {
+            enviarBytes(destino, json);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("📤 Mensagem {} enviada para {}", mensagem.getTipo(), Arrays.toString(destinos));
+        }
+    }
+
+    public void enviarParaUsuario(String usuario, String destino, WebSocketMessageDTO mensagem) {
+        // Mesmo destino montado por convertAndSendToUser, mas com o payload já serializado
+        String destinoUsuario = messagingTemplate.getUserDestinationPrefix()
+                + StringUtils.replace(usuario, "/", "%2F") + destino;
+        enviarBytes(destinoUsuario, serializar(mensagem));
+    }
+
+    // ============================================================
+    // 🔹 ENVIO AGRUPADO POR AGREGADO
+    // ============================================================
+
+    /**
+     * Enfileira o estado mais recente de um agregado. Chamadas com a mesma chave dentro da
+     * janela substituem a anterior; com janela 0 o envio é imediato.
+     */
+    public void agrupar(String chave, WebSocketMessageDTO mensagem, String... destinos) {
+        // Serializa já, ainda dentro da transação de quem notificou
+        byte[] json = serializar(mensagem);
+        enfileirar(chave, () -> json, mensagem.getTipo() + ":" + chave, destinos);
+    }
+
+    /**
+     * Como {@link #agrupar(String, WebSocketMessageDTO, String...)}, mas a mensagem só é montada
+     * no envio, a partir do último estado da janela (usado pelas mensagens delta).
+     * O fornecedor pode devolver null para não enviar nada.
+     */
+    public void agrupar(String chave, Supplier<WebSocketMessageDTO> mensagem, String... destinos) {
+        enfileirar(chave, () -> {
+            WebSocketMessageDTO montada = mensagem.get();
+            return montada != null ? serializar(montada) : null;
+        }, null, destinos);
+    }
+
+    private void enfileirar(String chave, Supplier<byte[]> json, String estado, String... destinos) {
+        Pendente pendente = new Pendente(json, estado, List.of(destinos));
+        if (janelaMs <= 0) {
+            enviarPendentes(List.of(pendente));
+            return;
+        }
+
+        synchronized (pendentes) {
+            pendentes.remove(chave);
+            pendentes.put(chave, pendente);
+        }
+
+        if (descargaAgendada.compareAndSet(false, true)) {
+            agendador.schedule(this::descarregar, janelaMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void descarregar() {
+        List<Pendente> lote;
+        synchronized (pendentes) {
+            descargaAgendada.set(false);
+            lote = new ArrayList<>(pendentes.values());
+            pendentes.clear();
+        }
+        enviarPendentes(lote);
+    }
+
+    private void enviarPendentes(List<Pendente> lote) {
+        Map<String, List<Pronta>> porDestino = new LinkedHashMap<>();
+        for (Pendente pendente : lote) {
+            byte[] json;
+            try {
+                json = pendente.json().get();
+            } catch (Exception e) {
+                log.error("❌ Erro ao montar mensagem agrupada: {}", e.getMessage());
+                continue;
+            }
+            if (json == null) {
+                continue;
+            }
+            Pronta pronta = new Pronta(json, pendente.estado());
+            for (String destino : pendente.destinos()) {
+                porDestino.computeIfAbsent(destino, d -> new ArrayList<>()).add(pronta);
+            }
+        }
+
+        porDestino.forEach((destino, mensagens) -> {
+            try {
+                // Um LOTE mistura agregados: só a mensagem avulsa leva o cabeçalho de estado
+                if (mensagens.size() == 1) {
+                    enviarBytes(destino, mensagens.getFirst().json(), mensagens.getFirst().estado());
+                } else {
+                    enviarBytes(destino, montarLote(mensagens.stream().map(Pronta::json).toList()), null);
+                }
+            } catch (Exception e) {
+                log.error("❌ Erro ao enviar lote para {}: {}", destino, e.getMessage());
+            }
+        });
+        log.debug("📦 {} atualizações agrupadas enviadas para {} destinos", lote.size(), porDestino.size());
+    }
+
+    @Override
+    public void close() {
+        agendador.shutdown();
+    }
+
+    // ============================================================
+    // 🔹 MÉTODOS AUXILIARES
+    // ============================================================
+
+    private byte[] serializar(WebSocketMessageDTO mensagem) {
+        try {
+            return writer.writeValueAsBytes(mensagem);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Erro ao serializar mensagem WebSocket: " + e.getMessage(), e);
+        }
+    }
+
+    private byte[] montarLote(List<byte[]> mensagens) {
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        saida.writeBytes(INICIO_LOTE);
+        for (int i = 0; i < mensagens.size(); i++) {
+            if (i > 0) {
+                saida.write(',');
+            }
+            saida.writeBytes(mensagens.get(i));
+        }
+        saida.writeBytes(FIM_LOTE);
+        return saida.toByteArray();
+    }
+
+    private void enviarBytes(String destino, byte[] json) {
+        enviarBytes(destino, json, null);
+    }
+
+    private void enviarBytes(String destino, byte[] json, String estado) {
+        SimpMessageHeaderAccessor cabecalhos = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        cabecalhos.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        if (estado != null) {
+            cabecalhos.setNativeHeader(CABECALHO_ESTADO, estado);
+        }
+        cabecalhos.setLeaveMutable(true);
+        messagingTemplate.send(destino, MessageBuilder.createMessage(json, cabecalhos.getMessageHeaders()));
+
+        MedidoresDestino medidor = medidores.computeIfAbsent(chaveMetrica(destino), this::criarMedidores);
+        medidor.enviadas().increment();
+        medidor.bytes().record(json.length);
+    }
+
+    private MedidoresDestino criarMedidores(String destino) {
+        return new MedidoresDestino(
+                Counter.builder("sync.websocket.mensagens.enviadas")
+                        .description("Mensagens publicadas pelo pipeline de envio WebSocket")
+                        .tag("destino", destino)
+                        .register(meterRegistry),
+                DistributionSummary.builder("sync.websocket.mensagens.bytes")
+                        .description("Tamanho do payload publicado")
+                        .baseUnit("bytes")
+                        .tag("destino", destino)
+                        .register(meterRegistry));
+    }
+
+    /**
+     * Destino sem identificadores, para a tag não explodir em cardinalidade:
+     * /topic/mesa.42 vira /topic/mesa e /user/joao/queue/notificacoes vira /user/queue/notificacoes.
+     */
+    static String chaveMetrica(String destino) {
+        String chave = destino;
+        if (chave.startsWith("/user/")) {
+            int fimUsuario = chave.indexOf('/', "/user/".length());
+            chave = fimUsuario > 0 ? "/user" + chave.substring(fimUsuario) : "/user";
+        }
+        int ponto = chave.indexOf('.', chave.lastIndexOf('/') + 1);
+        return ponto > 0 ? chave.substring(0, ponto) : chave;
+    }
+}
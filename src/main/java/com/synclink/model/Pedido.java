@@ -13,6 +13,15 @@ import java.util.List;
 
 @Entity
 @Table(name = "pedidos")
+@NamedEntityGraph(
+        name = Pedido.GRAFO_DETALHES,
+        attributeNodes = {
+                @NamedAttributeNode("mesa"),
+                @NamedAttributeNode("usuario"),
+                @NamedAttributeNode(value = "itens", subgraph = "itens-produto")
+        },
+        subgraphs = @NamedSubgraph(name = "itens-produto", attributeNodes = @NamedAttributeNode("produto"))
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,6 +29,9 @@ import java.util.List;
 @Builder
 public class Pedido {
 
+    // Grafo usado pelas leituras que alimentam o PedidoMapper (mesa, usuário e itens com produto)
+    public static final String GRAFO_DETALHES = "Pedido.detalhes";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -76,6 +88,11 @@ public class Pedido {
     @Column(name = "data_fechamento")
     private LocalDateTime dataFechamento;
 
+    // Controle de concorrência otimista: alterações simultâneas no mesmo pedido não se sobrescrevem
+    @Version
+    @Column(nullable = false)
+    private Long versao;
+
     @JsonIgnore
     @OneToMany(mappedBy = "pedido", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
@@ -276,6 +293,14 @@ public class Pedido {
         this.dataFechamento = dataFechamento;
     }
 
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
+
     public List<ItemPedido> getItens() {
         return itens;
     }
@@ -0,0 +1,46 @@
+package com.synclink.model;
+
+import com.synclink.model.enums.StatusReserva;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Quantidade retirada de um lote de estoque para um item de pedido.
+ * A baixa acontece na reserva (ATIVA); o fechamento do pedido apenas a confirma
+ * e o cancelamento/remoção do item devolve a quantidade ao lote (LIBERADA).
+ */
+@Entity
+@Table(name = "reservas_estoque")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class ReservaEstoque {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "pedido_id", nullable = false)
+    private Long pedidoId;
+
+    @Column(name = "item_pedido_id", nullable = false)
+    private Long itemPedidoId;
+
+    @Column(name = "estoque_id", nullable = false)
+    private Long estoqueId;
+
+    @Column(nullable = false)
+    private Integer quantidade;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private StatusReserva status = StatusReserva.ATIVA;
+
+    @Column(name = "data_criacao", nullable = false)
+    @Builder.Default
+    private LocalDateTime dataCriacao = LocalDateTime.now();
+
+    @Column(name = "data_atualizacao")
+    private LocalDateTime dataAtualizacao;
+}
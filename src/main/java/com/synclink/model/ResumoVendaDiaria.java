@@ -0,0 +1,45 @@
+package com.synclink.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Linha do rollup diário de vendas (dia × status × forma de pagamento × usuário).
+ * Pedidos FECHADO/CANCELADO entram com forma de pagamento {@link #FORMA_NAO_INFORMADA};
+ * pagamentos APROVADO/ESTORNADO entram com a forma de pagamento real.
+ */
+@Entity
+@Table(name = "resumo_vendas_diarias",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_resumo_vendas_diarias",
+                columnNames = {"dia", "status", "forma_pagamento", "usuario_id"}))
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class ResumoVendaDiaria {
+
+    public static final String FORMA_NAO_INFORMADA = "NAO_INFORMADA";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDate dia;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "forma_pagamento", nullable = false, length = 30)
+    private String formaPagamento;
+
+    @Column(name = "usuario_id", nullable = false)
+    private Long usuarioId;
+
+    @Column(nullable = false)
+    private Long quantidade;
+
+    @Column(name = "valor_total", nullable = false, precision = 12, scale = 2)
+    private BigDecimal valorTotal;
+}
@@ -7,10 +7,15 @@ public class TiposMensagem {
     public static final String SYSTEM_PONG = "SYSTEM_PONG";
     public static final String SYSTEM_STATUS = "SYSTEM_STATUS";
     public static final String ALERTA_SISTEMA = "ALERTA_SISTEMA";
+    public static final String LOTE = "LOTE";
 
     // Mensagens de Pedidos
     public static final String PEDIDO_CRIADO = "PEDIDO_CRIADO";
     public static final String PEDIDO_ATUALIZADO = "PEDIDO_ATUALIZADO";
+    public static final String PEDIDO_DELTA = "PEDIDO_DELTA";
+    public static final String PEDIDO_RESYNC = "PEDIDO_RESYNC";
+    public static final String ACIONAMENTO_COZINHA = "ACIONAMENTO_COZINHA";
+    public static final String INDICADORES_COZINHA = "INDICADORES_COZINHA";
     public static final String ITEM_ADICIONADO = "ITEM_ADICIONADO";
     public static final String ITEM_REMOVIDO = "ITEM_REMOVIDO";
     public static final String PEDIDO_FECHADO = "PEDIDO_FECHADO";
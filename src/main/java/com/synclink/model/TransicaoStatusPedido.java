@@ -0,0 +1,41 @@
+package com.synclink.model;
+
+import com.synclink.model.enums.StatusPedido;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro de uma mudança de status de pedido. A tabela é só de inserção: cada linha guarda
+ * também quanto tempo o pedido ficou no status anterior, base dos tempos de cozinha.
+ */
+@Entity
+@Immutable
+@Table(name = "transicoes_status_pedido")
+@Getter @NoArgsConstructor @AllArgsConstructor @Builder
+public class TransicaoStatusPedido {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "pedido_id", nullable = false)
+    private Long pedidoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status_anterior", length = 20)
+    private StatusPedido statusAnterior;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status_novo", nullable = false, length = 20)
+    private StatusPedido statusNovo;
+
+    @Column(name = "duracao_ms")
+    private Long duracaoMs;
+
+    @Column(name = "data_transicao", nullable = false)
+    @Builder.Default
+    private LocalDateTime dataTransicao = LocalDateTime.now();
+}
@@ -0,0 +1,5 @@
+package com.synclink.model.enums;
+
+public enum StatusReserva {
+    ATIVA, CONFIRMADA, LIBERADA
+}
@@ -0,0 +1,118 @@
+-- ============================================================
+-- Esquema inicial (equivalente ao gerado anteriormente pelo ddl-auto: update).
+-- Bancos já existentes são marcados como baseline na versão 0 (baseline-on-migrate) e também
+-- executam este script: tudo usa IF NOT EXISTS, então só é criado o que o ddl-auto não criou.
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS usuarios (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome             VARCHAR(255) NOT NULL,
+    email            VARCHAR(255) NOT NULL UNIQUE,
+    senha            VARCHAR(255) NOT NULL,
+    perfil           VARCHAR(20)  NOT NULL,
+    ativo            BOOLEAN      NOT NULL,
+    data_criacao     TIMESTAMP(6) NOT NULL,
+    data_atualizacao TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS mesas (
+    id        BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    numero    INTEGER      NOT NULL UNIQUE,
+    status    VARCHAR(255) NOT NULL,
+    descricao VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS categorias (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome          VARCHAR(100) NOT NULL UNIQUE,
+    descricao     VARCHAR(255),
+    ativo         BOOLEAN      NOT NULL,
+    criado_em     TIMESTAMP(6),
+    atualizado_em TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS produtos (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    nome             VARCHAR(255)   NOT NULL,
+    descricao        VARCHAR(255),
+    preco            NUMERIC(10, 2) NOT NULL,
+    ativo            BOOLEAN        NOT NULL,
+    categoria_id     BIGINT         NOT NULL REFERENCES categorias (id),
+    data_criacao     TIMESTAMP(6)   NOT NULL,
+    data_atualizacao TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS estoque (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    produto_id     BIGINT       NOT NULL REFERENCES produtos (id),
+    quantidade     INTEGER      NOT NULL,
+    estoque_minimo INTEGER      NOT NULL,
+    estoque_maximo INTEGER,
+    custo_unitario NUMERIC(10, 2),
+    data_entrada   TIMESTAMP(6) NOT NULL,
+    data_validade  TIMESTAMP(6),
+    lote           VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS comandas (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    mesa_id         BIGINT       NOT NULL REFERENCES mesas (id),
+    codigo          VARCHAR(50)  NOT NULL UNIQUE,
+    status          VARCHAR(20)  NOT NULL,
+    data_abertura   TIMESTAMP(6) NOT NULL,
+    data_fechamento TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS pedidos (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    mesa_id                 BIGINT       NOT NULL REFERENCES mesas (id),
+    usuario_id              BIGINT       NOT NULL REFERENCES usuarios (id),
+    comanda_id              BIGINT REFERENCES comandas (id),
+    status                  VARCHAR(255) NOT NULL,
+    subtotal                NUMERIC(10, 2),
+    acrescimo               NUMERIC(10, 2),
+    desconto                NUMERIC(10, 2),
+    total                   NUMERIC(10, 2),
+    valor_final             NUMERIC(10, 2),
+    observacao              VARCHAR(255),
+    justificativa_acrescimo VARCHAR(255),
+    justificativa_desconto  VARCHAR(255),
+    data_criacao            TIMESTAMP(6) NOT NULL,
+    data_atualizacao        TIMESTAMP(6),
+    data_fechamento         TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS itens_pedido (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    pedido_id      BIGINT         NOT NULL REFERENCES pedidos (id),
+    produto_id     BIGINT         NOT NULL REFERENCES produtos (id),
+    quantidade     INTEGER        NOT NULL,
+    preco_unitario NUMERIC(10, 2) NOT NULL,
+    observacao     VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS pagamentos (
+    id                     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    pedido_id              BIGINT         NOT NULL REFERENCES pedidos (id),
+    forma_pagamento        VARCHAR(30)    NOT NULL,
+    valor                  NUMERIC(10, 2) NOT NULL,
+    status                 VARCHAR(20)    NOT NULL,
+    codigo_transacao       VARCHAR(80),
+    data_criacao           TIMESTAMP(6)   NOT NULL,
+    data_confirmacao       TIMESTAMP(6),
+    observacao             VARCHAR(255),
+    numero_parcelas        INTEGER,
+    bandeira_cartao        VARCHAR(30),
+    ultimos_digitos_cartao VARCHAR(4)
+);
+
+CREATE TABLE IF NOT EXISTS resumo_vendas_diarias (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    dia             DATE           NOT NULL,
+    status          VARCHAR(20)    NOT NULL,
+    forma_pagamento VARCHAR(30)    NOT NULL,
+    usuario_id      BIGINT         NOT NULL,
+    quantidade      BIGINT         NOT NULL,
+    valor_total     NUMERIC(12, 2) NOT NULL,
+    CONSTRAINT uk_resumo_vendas_diarias UNIQUE (dia, status, forma_pagamento, usuario_id)
+);
@@ -0,0 +1,44 @@
+-- ============================================================
+-- Índices para os predicados usados pelos repositórios
+-- ============================================================
+
+-- 🔹 PEDIDOS
+-- findByStatus / findByStatusIn / estatísticas por status no período
+CREATE INDEX IF NOT EXISTS idx_pedidos_status_data_criacao ON pedidos (status, data_criacao);
+-- findByMesaId / findByMesaIdAndStatusNotIn / findPedidoAbertoPorMesa
+CREATE INDEX IF NOT EXISTS idx_pedidos_mesa_status ON pedidos (mesa_id, status);
+-- Paginação por cursor (data_criacao, id) e consultas por período
+CREATE INDEX IF NOT EXISTS idx_pedidos_data_criacao_id ON pedidos (data_criacao DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_pedidos_usuario ON pedidos (usuario_id);
+CREATE INDEX IF NOT EXISTS idx_pedidos_comanda ON pedidos (comanda_id);
+
+-- Índices parciais para o conjunto de pedidos ativos (findPedidosAtivos / findPedidoAtivoPorMesa).
+-- Ficam pequenos porque pedidos fechados/cancelados, a maior parte da tabela, não entram neles.
+CREATE INDEX IF NOT EXISTS idx_pedidos_ativos_data_criacao ON pedidos (data_criacao DESC)
+    WHERE status IN ('ABERTO', 'EM_PREPARO', 'PRONTO', 'ENTREGUE');
+CREATE INDEX IF NOT EXISTS idx_pedidos_ativos_mesa ON pedidos (mesa_id)
+    WHERE status IN ('ABERTO', 'EM_PREPARO', 'PRONTO', 'ENTREGUE');
+
+-- 🔹 ITENS DO PEDIDO
+CREATE INDEX IF NOT EXISTS idx_itens_pedido_pedido ON itens_pedido (pedido_id);
+CREATE INDEX IF NOT EXISTS idx_itens_pedido_produto ON itens_pedido (produto_id);
+
+-- 🔹 PAGAMENTOS
+CREATE INDEX IF NOT EXISTS idx_pagamentos_pedido ON pagamentos (pedido_id);
+CREATE INDEX IF NOT EXISTS idx_pagamentos_status_data_criacao ON pagamentos (status, data_criacao);
+CREATE INDEX IF NOT EXISTS idx_pagamentos_forma_data_criacao ON pagamentos (forma_pagamento, data_criacao);
+CREATE INDEX IF NOT EXISTS idx_pagamentos_data_criacao_id ON pagamentos (data_criacao DESC, id DESC);
+
+-- 🔹 COMANDAS
+CREATE INDEX IF NOT EXISTS idx_comandas_mesa_status ON comandas (mesa_id, status);
+CREATE INDEX IF NOT EXISTS idx_comandas_status ON comandas (status);
+
+-- 🔹 ESTOQUE
+CREATE INDEX IF NOT EXISTS idx_estoque_produto ON estoque (produto_id);
+
+-- 🔹 PRODUTOS
+CREATE INDEX IF NOT EXISTS idx_produtos_categoria_ativo ON produtos (categoria_id, ativo);
+CREATE INDEX IF NOT EXISTS idx_produtos_ativo_nome ON produtos (ativo, nome);
+
+-- 🔹 USUÁRIOS
+CREATE INDEX IF NOT EXISTS idx_usuarios_perfil ON usuarios (perfil);
@@ -0,0 +1,2 @@
+-- Coluna de versão para o controle de concorrência otimista de pedidos (@Version)
+ALTER TABLE pedidos ADD COLUMN IF NOT EXISTS versao BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,15 @@
+-- Reservas de estoque vinculadas aos itens de pedido
+CREATE TABLE IF NOT EXISTS reservas_estoque (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    pedido_id        BIGINT       NOT NULL,
+    item_pedido_id   BIGINT       NOT NULL,
+    estoque_id       BIGINT       NOT NULL REFERENCES estoque (id),
+    quantidade       INTEGER      NOT NULL,
+    status           VARCHAR(20)  NOT NULL,
+    data_criacao     TIMESTAMP(6) NOT NULL,
+    data_atualizacao TIMESTAMP(6)
+);
+
+-- Liberação/confirmação buscam sempre as reservas ATIVA de um item ou de um pedido
+CREATE INDEX IF NOT EXISTS idx_reservas_estoque_item_ativa ON reservas_estoque (item_pedido_id) WHERE status = 'ATIVA';
+CREATE INDEX IF NOT EXISTS idx_reservas_estoque_pedido_ativa ON reservas_estoque (pedido_id) WHERE status = 'ATIVA';
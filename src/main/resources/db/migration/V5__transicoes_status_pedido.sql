@@ -0,0 +1,15 @@
+-- Histórico (somente inserção) das mudanças de status dos pedidos
+CREATE TABLE IF NOT EXISTS transicoes_status_pedido (
+    id               BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    pedido_id        BIGINT       NOT NULL REFERENCES pedidos (id) ON DELETE CASCADE,
+    status_anterior  VARCHAR(20),
+    status_novo      VARCHAR(20)  NOT NULL,
+    -- Tempo que o pedido ficou em status_anterior (nulo quando não há transição anterior registrada)
+    duracao_ms       BIGINT,
+    data_transicao   TIMESTAMP(6) NOT NULL
+);
+
+-- Última transição de um pedido (base da duração da próxima)
+CREATE INDEX IF NOT EXISTS idx_transicoes_status_pedido_pedido ON transicoes_status_pedido (pedido_id, data_transicao DESC);
+-- Análises por período e status
+CREATE INDEX IF NOT EXISTS idx_transicoes_status_pedido_data ON transicoes_status_pedido (data_transicao, status_anterior);
@@ -0,0 +1,35 @@
+package com.synclink;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Base dos testes de integração: aplicação completa sobre um PostgreSQL embutido (binário local,
+ * sem contêiner), com o esquema criado pelas migrações do Flyway. O banco sobe uma vez por JVM
+ * e o contexto do Spring é compartilhado entre as classes que estendem esta.
+ */
+@SpringBootTest
+public abstract class IntegracaoPostgres {
+
+    private static final EmbeddedPostgres POSTGRES = iniciar();
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    private static EmbeddedPostgres iniciar() {
+        try {
+            return EmbeddedPostgres.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível iniciar o PostgreSQL embutido", e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.synclink.application.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.synclink.application.mapper.ProdutoMapper;
+import com.synclink.application.service.CardapioService;
+import com.synclink.domain.repository.CategoriaRepository;
+import com.synclink.domain.repository.ProdutoRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Uma alteração do catálogo durante a montagem do snapshot não pode deixar o resultado antigo
+ * guardado: a próxima leitura monta de novo, e só então o snapshot passa a ser reaproveitado.
+ */
+class CardapioServiceImplTest {
+
+    private final CategoriaRepository categoriaRepository = mock(CategoriaRepository.class);
+    private final ProdutoRepository produtoRepository = mock(ProdutoRepository.class);
+    private final CardapioServiceImpl service = new CardapioServiceImpl(
+            categoriaRepository, produtoRepository, mock(ProdutoMapper.class), new ObjectMapper());
+
+    @Test
+    void snapshotMontadoDuranteInvalidacaoNaoEGuardado() {
+        AtomicBoolean primeira = new AtomicBoolean(true);
+        when(categoriaRepository.findByAtivo(true)).thenReturn(List.of());
+        when(produtoRepository.findByAtivo(true)).thenAnswer(inv -> {
+            // Commit de uma escrita no catálogo enquanto o snapshot está sendo montado
+            if (primeira.getAndSet(false)) {
+                service.invalidar();
+            }
+            return List.of();
+        });
+
+        CardapioService.Snapshot montadoNaCorrida = service.obterSnapshot();
+        CardapioService.Snapshot remontado = service.obterSnapshot();
+        CardapioService.Snapshot reaproveitado = service.obterSnapshot();
+
+        assertThat(remontado).isNotSameAs(montadoNaCorrida);
+        assertThat(reaproveitado).isSameAs(remontado);
+        verify(produtoRepository, times(2)).findByAtivo(true);
+    }
+}
@@ -0,0 +1,133 @@
+package com.synclink.application.service.impl;
+
+import com.synclink.IntegracaoPostgres;
+import com.synclink.application.service.EstoqueService;
+import com.synclink.domain.repository.CategoriaRepository;
+import com.synclink.domain.repository.EstoqueRepository;
+import com.synclink.domain.repository.ProdutoRepository;
+import com.synclink.domain.repository.ReservaEstoqueRepository;
+import com.synclink.model.Categoria;
+import com.synclink.model.Estoque;
+import com.synclink.model.Produto;
+import com.synclink.model.ReservaEstoque;
+import com.synclink.model.enums.StatusReserva;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Centenas de pedidos disputando o mesmo produto: a baixa condicional no banco não pode vender
+ * mais do que o saldo dos lotes, nem deixar saldo negativo ou reserva sem baixa correspondente.
+ * Também na mesma transação: a segunda reserva precisa enxergar as baixas da primeira.
+ */
+class EstoqueReservaConcorrenteTest extends IntegracaoPostgres {
+
+    private static final int THREADS = 300;
+    private static final int SALDO_POR_LOTE = 60;
+
+    @Autowired
+    private EstoqueService estoqueService;
+    @Autowired
+    private EstoqueRepository estoqueRepository;
+    @Autowired
+    private ReservaEstoqueRepository reservaRepository;
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+    @Autowired
+    private ProdutoRepository produtoRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void reservasConcorrentesNaoUltrapassamOSaldo() throws Exception {
+        Produto produto = criarProdutoComLotes(2);
+        long pedidoBase = System.nanoTime();
+
+        AtomicInteger reservadas = new AtomicInteger();
+        AtomicInteger recusadas = new AtomicInteger();
+        CountDownLatch largada = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            List<Future<?>> tarefas = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                long pedidoId = pedidoBase + i;
+                tarefas.add(executor.submit(() -> {
+                    largada.await();
+                    try {
+                        estoqueService.reservar(pedidoId, pedidoId, produto.getId(), 1);
+                        reservadas.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        recusadas.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            largada.countDown();
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get();
+            }
+        }
+
+        List<Estoque> lotes = estoqueRepository.findByProdutoId(produto.getId());
+        int reservadoNoBanco = 0;
+        for (int i = 0; i < THREADS; i++) {
+            reservadoNoBanco += reservaRepository.findByPedidoIdAndStatus(pedidoBase + i, StatusReserva.ATIVA).stream()
+                    .mapToInt(ReservaEstoque::getQuantidade)
+                    .sum();
+        }
+
+        assertThat(reservadas.get()).isEqualTo(2 * SALDO_POR_LOTE);
+        assertThat(recusadas.get()).isEqualTo(THREADS - 2 * SALDO_POR_LOTE);
+        assertThat(lotes).allSatisfy(lote -> assertThat(lote.getQuantidade()).isZero());
+        assertThat(reservadoNoBanco).isEqualTo(reservadas.get());
+    }
+
+    @Test
+    void reservasSucessivasNaMesmaTransacaoUsamOSaldoAtual() {
+        Produto produto = criarProdutoComLotes(2);
+        long pedidoId = System.nanoTime();
+
+        // Como ao reabrir um pedido cancelado: cada item reserva de novo, tudo na mesma transação.
+        // Com o saldo de antes da primeira baixa, a segunda pularia o lote 1 e faltariam 10 unidades
+        transactionTemplate.executeWithoutResult(status -> {
+            estoqueService.reservar(pedidoId, 1L, produto.getId(), 50);
+            estoqueService.reservar(pedidoId, 2L, produto.getId(), 70);
+        });
+
+        assertThat(estoqueRepository.findByProdutoId(produto.getId()))
+                .allSatisfy(lote -> assertThat(lote.getQuantidade()).isZero());
+        assertThat(reservaRepository.findByPedidoIdAndStatus(pedidoId, StatusReserva.ATIVA).stream()
+                .mapToInt(ReservaEstoque::getQuantidade)
+                .sum()).isEqualTo(2 * SALDO_POR_LOTE);
+    }
+
+    // ============================================================
+    // 🔹 MÉTODOS AUXILIARES
+    // ============================================================
+
+    private Produto criarProdutoComLotes(int lotes) {
+        Categoria categoria = categoriaRepository.save(Categoria.builder()
+                .nome("Concorrência " + System.nanoTime())
+                .ativo(true)
+                .build());
+        Produto produto = produtoRepository.save(new Produto("Produto disputado", null, BigDecimal.TEN, categoria));
+        for (int i = 0; i < lotes; i++) {
+            Estoque lote = new Estoque();
+            lote.setProduto(produto);
+            lote.setQuantidade(SALDO_POR_LOTE);
+            lote.setEstoqueMinimo(0);
+            estoqueRepository.save(lote);
+        }
+        return produto;
+    }
+}
@@ -0,0 +1,72 @@
+package com.synclink.application.service.impl;
+
+import com.synclink.IntegracaoPostgres;
+import com.synclink.application.dto.IndicadoresCozinhaDTO;
+import com.synclink.application.dto.TempoCozinhaDTO;
+import com.synclink.application.service.AnaliseCozinhaService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Os indicadores saem do histórico gravado no banco, não de eventos locais: transições inseridas
+ * direto na tabela (como as de outro nó) entram no painel, e as anteriores à janela ficam de fora.
+ * A massa é gravada numa transação desfeita ao final.
+ */
+class IndicadoresCozinhaTest extends IntegracaoPostgres {
+
+    @Autowired
+    private AnaliseCozinhaService analiseCozinhaService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void transicoesGravadasPorOutroNoEntramNaJanela() {
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            Long usuarioId = jdbcTemplate.queryForObject("SELECT id FROM usuarios ORDER BY id LIMIT 1", Long.class);
+            Long mesaId = jdbcTemplate.queryForObject(
+                    "INSERT INTO mesas (numero, status) VALUES (60001, 'LIVRE') RETURNING id", Long.class);
+            Long categoriaId = jdbcTemplate.queryForObject(
+                    "INSERT INTO categorias (nome, ativo) VALUES ('Grelhados janela', true) RETURNING id", Long.class);
+            Long produtoId = jdbcTemplate.queryForObject("""
+                    INSERT INTO produtos (nome, preco, ativo, categoria_id, data_criacao)
+                    VALUES ('Picanha janela', 80.00, true, ?, now()) RETURNING id
+                    """, Long.class, categoriaId);
+
+            // Preparos de 60, 120 e 180 s dentro da janela; um de 1 h, de ontem, fora dela
+            long[][] preparos = {{60_000, 5}, {120_000, 10}, {180_000, 15}, {3_600_000, 1440}};
+            for (long[] preparo : preparos) {
+                Long pedidoId = jdbcTemplate.queryForObject("""
+                        INSERT INTO pedidos (mesa_id, usuario_id, status, valor_final, data_criacao)
+                        VALUES (?, ?, 'PRONTO', 80.00, now()) RETURNING id
+                        """, Long.class, mesaId, usuarioId);
+                // Dois itens da mesma categoria: o pedido conta uma vez só
+                jdbcTemplate.update("""
+                        INSERT INTO itens_pedido (pedido_id, produto_id, quantidade, preco_unitario)
+                        VALUES (?, ?, 1, 80.00), (?, ?, 2, 80.00)
+                        """, pedidoId, produtoId, pedidoId, produtoId);
+                jdbcTemplate.update("""
+                        INSERT INTO transicoes_status_pedido (pedido_id, status_anterior, status_novo, duracao_ms, data_transicao)
+                        VALUES (?, 'EM_PREPARO', 'PRONTO', ?, now() - make_interval(mins => ?))
+                        """, pedidoId, preparo[0], (int) preparo[1]);
+            }
+
+            IndicadoresCozinhaDTO indicadores = analiseCozinhaService.obterIndicadores();
+
+            TempoCozinhaDTO categoria = indicadores.getPorCategoria().stream()
+                    .filter(t -> t.getChave().equals("Grelhados janela"))
+                    .findFirst().orElseThrow();
+            assertThat(categoria.getAmostras()).isEqualTo(3);
+            assertThat(categoria.getP50Segundos()).isEqualTo(120.0);
+            assertThat(categoria.getP90Segundos()).isEqualTo(180.0);
+            assertThat(indicadores.getPorStatus())
+                    .anyMatch(t -> t.getChave().equals("EM_PREPARO") && t.getAmostras() >= 3);
+        });
+    }
+}
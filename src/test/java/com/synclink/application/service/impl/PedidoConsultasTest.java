@@ -0,0 +1,117 @@
+package com.synclink.application.service.impl;
+
+import com.synclink.IntegracaoPostgres;
+import com.synclink.application.dto.AdicionarItemPedidoDTO;
+import com.synclink.application.dto.CreatePedidoDTO;
+import com.synclink.application.service.PedidoService;
+import com.synclink.domain.repository.CategoriaRepository;
+import com.synclink.domain.repository.MesaRepository;
+import com.synclink.domain.repository.ProdutoRepository;
+import com.synclink.domain.repository.UsuarioRepository;
+import com.synclink.infrastructure.persistence.ContadorConsultas;
+import com.synclink.model.Categoria;
+import com.synclink.model.Mesa;
+import com.synclink.model.Produto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * As listagens de pedidos carregam mesa, usuário, itens e produtos em um número fixo de consultas:
+ * a quantidade de comandos SQL por chamada não pode crescer com a quantidade de pedidos.
+ */
+class PedidoConsultasTest extends IntegracaoPostgres {
+
+    private static final AtomicInteger SEQUENCIA = new AtomicInteger(10_000);
+
+    @Autowired
+    private PedidoService pedidoService;
+    @Autowired
+    private ContadorConsultas contadorConsultas;
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+    @Autowired
+    private MesaRepository mesaRepository;
+    @Autowired
+    private CategoriaRepository categoriaRepository;
+    @Autowired
+    private ProdutoRepository produtoRepository;
+
+    @Test
+    void consultasPorListagemNaoCrescemComOsPedidos() {
+        List<Produto> produtos = criarProdutos(5);
+        Long usuarioId = usuarioRepository.findByEmail("admin@gmail.com").orElseThrow().getId();
+
+        criarPedidos(3, produtos, usuarioId);
+        Map<String, Integer> comPoucos = contarConsultasDasListagens();
+
+        criarPedidos(30, produtos, usuarioId);
+        Map<String, Integer> comMuitos = contarConsultasDasListagens();
+
+        assertThat(comMuitos).isEqualTo(comPoucos);
+    }
+
+    // ============================================================
+    // 🔹 MÉTODOS AUXILIARES
+    // ============================================================
+
+    private Map<String, Integer> contarConsultasDasListagens() {
+        String hoje = LocalDate.now().toString();
+        Map<String, Integer> consultas = new LinkedHashMap<>();
+        consultas.put("findAll", contar(() -> pedidoService.findAll()));
+        consultas.put("findAll(pageable)", contar(() -> pedidoService.findAll(PageRequest.of(0, 50))));
+        consultas.put("findPorCursor", contar(() -> pedidoService.findPorCursor(null, null, 50)));
+        consultas.put("findPedidosAtivos", contar(() -> pedidoService.findPedidosAtivos()));
+        consultas.put("findPedidosCozinha", contar(() -> pedidoService.findPedidosCozinha()));
+        consultas.put("findPedidosPorPeriodo", contar(() -> pedidoService.findPedidosPorPeriodo(hoje, hoje)));
+        return consultas;
+    }
+
+    private int contar(Supplier<?> listagem) {
+        int consultas;
+        contadorConsultas.iniciar();
+        try {
+            assertThat(listagem.get()).isNotNull();
+        } finally {
+            consultas = contadorConsultas.finalizar();
+        }
+        return consultas;
+    }
+
+    private List<Produto> criarProdutos(int quantidade) {
+        Categoria categoria = categoriaRepository.save(Categoria.builder()
+                .nome("Consultas " + SEQUENCIA.incrementAndGet())
+                .ativo(true)
+                .build());
+        List<Produto> produtos = new ArrayList<>();
+        for (int i = 0; i < quantidade; i++) {
+            produtos.add(produtoRepository.save(
+                    new Produto("Produto " + SEQUENCIA.incrementAndGet(), null, BigDecimal.TEN, categoria)));
+        }
+        return produtos;
+    }
+
+    private void criarPedidos(int quantidade, List<Produto> produtos, Long usuarioId) {
+        for (int i = 0; i < quantidade; i++) {
+            Mesa mesa = mesaRepository.save(Mesa.builder().numero(SEQUENCIA.incrementAndGet()).build());
+            Long pedidoId = pedidoService.create(new CreatePedidoDTO(mesa.getId(), null), usuarioId).getId();
+            for (int j = 0; j < 3; j++) {
+                pedidoService.adicionarItem(pedidoId, AdicionarItemPedidoDTO.builder()
+                        .produtoId(produtos.get((i + j) % produtos.size()).getId())
+                        .quantidade(1)
+                        .build());
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.synclink.application.service.impl;
+
+import com.synclink.IntegracaoPostgres;
+import com.synclink.domain.repository.ResumoVendaDiariaRepository;
+import com.synclink.model.ResumoVendaDiaria;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Com várias instâncias o job agendado dispara em todas ao mesmo tempo: só quem obtém o advisory lock
+ * reconstrói, as demais não tocam no resumo. A reconstrução manual é recusada enquanto outra estiver em curso.
+ */
+class ResumoVendasReconstrucaoTest extends IntegracaoPostgres {
+
+    private static final long CHAVE_LOCK_RECONSTRUCAO = 0x53594E4352455355L;
+
+    @Autowired
+    private ResumoVendasServiceImpl resumoVendasService;
+    @Autowired
+    private ResumoVendaDiariaRepository resumoRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void reconstrucaoEmOutraInstanciaBloqueiaAsDemais() throws Exception {
+        LocalDate hoje = LocalDate.now();
+        long usuarioId = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> resumoRepository.acumular(
+                hoje, "FECHADO", ResumoVendaDiaria.FORMA_NAO_INFORMADA, usuarioId, 1, BigDecimal.TEN));
+
+        CountDownLatch bloqueado = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        CompletableFuture<Void> outraInstancia = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    assertThat(resumoRepository.tentarBloqueioReconstrucao(CHAVE_LOCK_RECONSTRUCAO)).isTrue();
+                    bloqueado.countDown();
+                    aguardar(liberar);
+                }));
+        try {
+            assertThat(bloqueado.await(10, TimeUnit.SECONDS)).isTrue();
+
+            resumoVendasService.reconstruirDiasRecentes();
+            assertThatThrownBy(() -> resumoVendasService.reconstruir(hoje, hoje))
+                    .isInstanceOf(IllegalStateException.class);
+
+            // Linha sem pedido de origem: só sobrevive porque nenhuma reconstrução rodou
+            assertThat(resumoRepository.findByDiaBetweenOrderByDiaAscStatusAsc(hoje, hoje))
+                    .anyMatch(resumo -> resumo.getUsuarioId().equals(usuarioId));
+        } finally {
+            liberar.countDown();
+            outraInstancia.get(10, TimeUnit.SECONDS);
+        }
+
+        // Lock liberado no commit da outra transação
+        resumoVendasService.reconstruir(hoje, hoje);
+        assertThat(resumoRepository.findByDiaBetweenOrderByDiaAscStatusAsc(hoje, hoje))
+                .noneMatch(resumo -> resumo.getUsuarioId().equals(usuarioId));
+    }
+
+    private static void aguardar(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
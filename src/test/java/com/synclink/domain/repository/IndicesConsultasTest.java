@@ -0,0 +1,303 @@
+package com.synclink.domain.repository;
+
+import com.synclink.IntegracaoPostgres;
+import com.synclink.infrastructure.persistence.ContadorConsultas;
+import com.synclink.model.enums.StatusComanda;
+import com.synclink.model.enums.StatusPagamento;
+import com.synclink.model.enums.StatusPedido;
+import com.synclink.model.enums.StatusReserva;
+import jakarta.persistence.EntityManager;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Os predicados dos repositórios precisam de índice: cada consulta é executada pelo repositório, o SQL
+ * gerado pelo Hibernate é capturado pelo {@link ContadorConsultas} e o seu EXPLAIN, com o planejador na
+ * configuração padrão e estatísticas recém-coletadas (ANALYZE), não pode varrer sequencialmente a tabela
+ * filtrada. Tabelas trazidas por junção (itens do grafo, mesa, usuário) ficam de fora: entre hash join e
+ * busca pelo índice o planejador escolhe conforme o volume, e a massa do teste é pequena perto da produção.
+ * Listagens completas (findAll, findPaginado) e filtros que devolvem boa parte da tabela ficam de fora.
+ * A massa é gravada numa transação desfeita ao final, sem deixar resíduo para as demais classes de teste.
+ */
+class IndicesConsultasTest extends IntegracaoPostgres {
+
+    private static final Pattern PARAMETRO = Pattern.compile("\\?");
+
+    @Autowired
+    private PedidoRepository pedidoRepository;
+    @Autowired
+    private PagamentoRepository pagamentoRepository;
+    @Autowired
+    private ComandaRepository comandaRepository;
+    @Autowired
+    private EstoqueRepository estoqueRepository;
+    @Autowired
+    private ProdutoRepository produtoRepository;
+    @Autowired
+    private ReservaEstoqueRepository reservaRepository;
+    @Autowired
+    private TransicaoStatusPedidoRepository transicaoRepository;
+    @Autowired
+    private ResumoVendaDiariaRepository resumoRepository;
+    @Autowired
+    private ContadorConsultas contadorConsultas;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void predicadosDasConsultasUsamIndice() {
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            Massa massa = popular();
+            SoftAssertions softly = new SoftAssertions();
+
+            for (Consulta consulta : consultas(massa)) {
+                String plano = explicar(consulta);
+                for (String tabela : consulta.tabelas()) {
+                    softly.assertThat(plano).as("Plano de %s:%n%s", consulta.nome(), plano)
+                            .doesNotContain("Seq Scan on " + tabela + " ");
+                }
+            }
+            softly.assertAll();
+        });
+    }
+
+    // Chamadas reais dos repositórios, com os valores vinculados na ordem em que aparecem no SQL gerado
+    private List<Consulta> consultas(Massa massa) {
+        LocalDateTime fim = LocalDateTime.now();
+        LocalDateTime inicio = fim.minusDays(1);
+        LocalDateTime cursor = fim.minusHours(1);
+        LocalDateTime janela = fim.minusMinutes(30);
+        LocalDate hoje = fim.toLocalDate();
+        List<StatusPedido> encerrados = List.of(StatusPedido.FECHADO, StatusPedido.CANCELADO);
+        PageRequest limite = PageRequest.of(0, 50);
+
+        return List.of(
+                new Consulta("PedidoRepository.findDetalhadoByStatus", "pedidos",
+                        () -> pedidoRepository.findDetalhadoByStatus(StatusPedido.ABERTO), "ABERTO"),
+                new Consulta("PedidoRepository.findDetalhadoByStatusIn", "pedidos",
+                        () -> pedidoRepository.findDetalhadoByStatusIn(List.of(StatusPedido.ABERTO, StatusPedido.PRONTO)),
+                        "ABERTO", "PRONTO"),
+                new Consulta("PedidoRepository.findPedidosAtivosDetalhado", "pedidos",
+                        () -> pedidoRepository.findPedidosAtivosDetalhado()),
+                new Consulta("PedidoRepository.findDetalhadoByMesaId", "pedidos",
+                        () -> pedidoRepository.findDetalhadoByMesaId(massa.mesaId()), massa.mesaId()),
+                new Consulta("PedidoRepository.findByMesaIdAndStatusNotIn", "pedidos",
+                        () -> pedidoRepository.findByMesaIdAndStatusNotIn(massa.mesaId(), encerrados),
+                        massa.mesaId(), "FECHADO", "CANCELADO"),
+                new Consulta("PedidoRepository.findPedidoAtivoPorMesa", "pedidos",
+                        () -> pedidoRepository.findPedidoAtivoPorMesa(massa.mesaId()), massa.mesaId()),
+                new Consulta("PedidoRepository.findDetalhadoByPeriodo", "pedidos",
+                        () -> pedidoRepository.findDetalhadoByPeriodo(inicio, fim), inicio, fim),
+                new Consulta("PedidoRepository.findResumidoByPeriodo", "pedidos",
+                        () -> pedidoRepository.findResumidoByPeriodo(inicio, fim), inicio, fim),
+                new Consulta("PedidoRepository.findPaginaCursorApos", "pedidos",
+                        () -> pedidoRepository.findPaginaCursorApos(cursor, Long.MAX_VALUE, limite),
+                        cursor, cursor, Long.MAX_VALUE, 50),
+                new Consulta("PedidoRepository.totalizarPorStatus", "pedidos",
+                        () -> pedidoRepository.totalizarPorStatus(inicio, fim), inicio, fim),
+                new Consulta("PedidoRepository.totalizarPorHora", "pedidos",
+                        () -> pedidoRepository.totalizarPorHora(inicio, fim, StatusPedido.CANCELADO),
+                        inicio, fim, "CANCELADO"),
+                new Consulta("PedidoRepository.totalizarPorMesa", "pedidos",
+                        () -> pedidoRepository.totalizarPorMesa(inicio, fim, StatusPedido.CANCELADO),
+                        inicio, fim, "CANCELADO"),
+                new Consulta("PedidoRepository.totalizarPorUsuario", "pedidos",
+                        () -> pedidoRepository.totalizarPorUsuario(inicio, fim, StatusPedido.CANCELADO),
+                        inicio, fim, "CANCELADO"),
+                new Consulta("PagamentoRepository.findByPedidoId", "pagamentos",
+                        () -> pagamentoRepository.findByPedidoId(massa.pedidoId()), massa.pedidoId()),
+                new Consulta("PagamentoRepository.findByStatus", "pagamentos",
+                        () -> pagamentoRepository.findByStatus(StatusPagamento.PENDENTE), "PENDENTE"),
+                new Consulta("PagamentoRepository.findByPeriodo", "pagamentos",
+                        () -> pagamentoRepository.findByPeriodo(inicio, fim), inicio, fim),
+                new Consulta("PagamentoRepository.findPaginaCursorApos", "pagamentos",
+                        () -> pagamentoRepository.findPaginaCursorApos(cursor, Long.MAX_VALUE, limite),
+                        cursor, cursor, Long.MAX_VALUE, 50),
+                new Consulta("PagamentoRepository.calcularTotalPagamentosPeriodo", "pagamentos",
+                        () -> pagamentoRepository.calcularTotalPagamentosPeriodo(StatusPagamento.APROVADO, inicio, fim),
+                        "APROVADO", inicio, fim),
+                new Consulta("ComandaRepository.findByMesaIdAndStatus", "comandas",
+                        () -> comandaRepository.findByMesaIdAndStatus(massa.mesaId(), StatusComanda.ABERTA),
+                        massa.mesaId(), "ABERTA"),
+                new Consulta("ComandaRepository.findByStatus", "comandas",
+                        () -> comandaRepository.findByStatus(StatusComanda.ABERTA), "ABERTA"),
+                new Consulta("EstoqueRepository.findDisponiveisPorProduto", "estoque",
+                        () -> estoqueRepository.findDisponiveisPorProduto(massa.produtoId()), massa.produtoId()),
+                new Consulta("ProdutoRepository.findByCategoriaIdAndAtivoTrue", "produtos",
+                        () -> produtoRepository.findByCategoriaIdAndAtivoTrue(massa.categoriaId()), massa.categoriaId()),
+                new Consulta("ReservaEstoqueRepository.findByItemPedidoIdAndStatus", "reservas_estoque",
+                        () -> reservaRepository.findByItemPedidoIdAndStatus(massa.itemId(), StatusReserva.ATIVA),
+                        massa.itemId(), "ATIVA"),
+                new Consulta("ReservaEstoqueRepository.findByPedidoIdAndStatus", "reservas_estoque",
+                        () -> reservaRepository.findByPedidoIdAndStatus(massa.pedidoId(), StatusReserva.ATIVA),
+                        massa.pedidoId(), "ATIVA"),
+                new Consulta("TransicaoStatusPedidoRepository.findFirstByPedidoIdOrderByDataTransicaoDescIdDesc", "transicoes_status_pedido",
+                        () -> transicaoRepository.findFirstByPedidoIdOrderByDataTransicaoDescIdDesc(massa.pedidoId()),
+                        massa.pedidoId(), 1),
+                new Consulta("TransicaoStatusPedidoRepository.temposPorStatus", "transicoes_status_pedido",
+                        () -> transicaoRepository.temposPorStatus(janela), janela),
+                new Consulta("TransicaoStatusPedidoRepository.temposPreparoPorCategoria",
+                        List.of("transicoes_status_pedido", "itens_pedido"),
+                        () -> transicaoRepository.temposPreparoPorCategoria(janela), List.of(janela)),
+                new Consulta("ResumoVendaDiariaRepository.somarPorStatus", "resumo_vendas_diarias",
+                        () -> resumoRepository.somarPorStatus("FECHADO", hoje.minusDays(30), hoje),
+                        "FECHADO", hoje.minusDays(30), hoje));
+    }
+
+    // ============================================================
+    // 🔹 MÉTODOS AUXILIARES
+    // ============================================================
+
+    /**
+     * Duas semanas de movimento: a maior parte dos pedidos já encerrada, os ativos concentrados nos
+     * últimos minutos, como num salão em funcionamento. Devolve ids usados como parâmetros das consultas.
+     */
+    private Massa popular() {
+        Long usuarioId = jdbcTemplate.queryForObject("SELECT id FROM usuarios ORDER BY id LIMIT 1", Long.class);
+
+        jdbcTemplate.update("INSERT INTO mesas (numero, status) SELECT 50000 + g, 'LIVRE' FROM generate_series(1, 200) g");
+        jdbcTemplate.update("""
+                INSERT INTO categorias (nome, ativo) SELECT 'Índices ' || g, true FROM generate_series(1, 100) g
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO produtos (nome, preco, ativo, categoria_id, data_criacao)
+                SELECT 'Produto índice ' || g, 10.00, g % 5 <> 0, c.id, now()
+                FROM generate_series(1, 5000) g
+                JOIN categorias c ON c.nome = 'Índices ' || (1 + g % 100)
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO estoque (produto_id, quantidade, estoque_minimo, data_entrada)
+                SELECT id, 100, 10, now() FROM produtos WHERE nome LIKE 'Produto índice %'
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO comandas (mesa_id, codigo, status, data_abertura)
+                SELECT m.id, 'IDX-' || g, CASE WHEN g <= 50 THEN 'ABERTA' WHEN g % 10 = 0 THEN 'CANCELADA' ELSE 'FECHADA' END,
+                       now() - make_interval(mins => g * 5)
+                FROM generate_series(1, 4000) g
+                JOIN mesas m ON m.numero = 50000 + (1 + g % 200)
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO pedidos (mesa_id, usuario_id, status, valor_final, data_criacao)
+                SELECT m.id, ?,
+                       CASE WHEN g <= 200 THEN (ARRAY['ABERTO', 'EM_PREPARO', 'PRONTO', 'ENTREGUE'])[1 + g % 4]
+                            WHEN g % 10 = 0 THEN 'CANCELADO' ELSE 'FECHADO' END,
+                       50.00, now() - make_interval(mins => g)
+                FROM generate_series(1, 20000) g
+                JOIN mesas m ON m.numero = 50000 + (1 + g % 200)
+                """, usuarioId);
+        jdbcTemplate.update("""
+                INSERT INTO itens_pedido (pedido_id, produto_id, quantidade, preco_unitario)
+                SELECT p.id, pr.id, 1, 10.00
+                FROM pedidos p
+                JOIN produtos pr ON pr.nome = 'Produto índice ' || (1 + p.id % 5000)
+                JOIN mesas m ON m.id = p.mesa_id AND m.numero > 50000
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO pagamentos (pedido_id, forma_pagamento, valor, status, data_criacao)
+                SELECT p.id, (ARRAY['DINHEIRO', 'PIX', 'CARTAO_CREDITO'])[1 + p.id % 3], 50.00,
+                       CASE WHEN p.status <> 'FECHADO' THEN 'PENDENTE' WHEN p.id % 20 = 0 THEN 'RECUSADO' ELSE 'APROVADO' END,
+                       p.data_criacao
+                FROM pedidos p JOIN mesas m ON m.id = p.mesa_id AND m.numero > 50000
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO reservas_estoque (pedido_id, item_pedido_id, estoque_id, quantidade, status, data_criacao)
+                SELECT i.pedido_id, i.id, e.id, 1, CASE WHEN p.status IN ('FECHADO', 'CANCELADO') THEN 'CONFIRMADA' ELSE 'ATIVA' END, now()
+                FROM itens_pedido i
+                JOIN pedidos p ON p.id = i.pedido_id
+                JOIN estoque e ON e.produto_id = i.produto_id
+                JOIN mesas m ON m.id = p.mesa_id AND m.numero > 50000
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO transicoes_status_pedido (pedido_id, status_anterior, status_novo, duracao_ms, data_transicao)
+                SELECT p.id, s.anterior, s.novo, 60000, p.data_criacao + s.minutos * interval '1 minute'
+                FROM pedidos p
+                JOIN mesas m ON m.id = p.mesa_id AND m.numero > 50000
+                CROSS JOIN (VALUES ('ABERTO', 'EM_PREPARO', 1), ('EM_PREPARO', 'PRONTO', 2), ('PRONTO', 'ENTREGUE', 3)) s(anterior, novo, minutos)
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO resumo_vendas_diarias (dia, status, forma_pagamento, usuario_id, quantidade, valor_total)
+                SELECT current_date - d, s, f, u, 10, 500.00
+                FROM generate_series(0, 729) d,
+                     unnest(ARRAY['FECHADO', 'CANCELADO', 'APROVADO', 'ESTORNADO']) s,
+                     unnest(ARRAY['DINHEIRO', 'PIX', 'CARTAO_CREDITO', 'CARTAO_DEBITO']) f,
+                     generate_series(900001, 900010) u
+                ON CONFLICT DO NOTHING
+                """);
+        jdbcTemplate.execute("ANALYZE");
+
+        return jdbcTemplate.queryForObject("""
+                SELECT p.mesa_id, p.id, i.id, i.produto_id, pr.categoria_id
+                FROM pedidos p
+                JOIN itens_pedido i ON i.pedido_id = p.id
+                JOIN produtos pr ON pr.id = i.produto_id
+                JOIN mesas m ON m.id = p.mesa_id AND m.numero > 50000
+                WHERE p.status = 'ABERTO'
+                ORDER BY p.id LIMIT 1
+                """, (rs, linha) -> new Massa(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5)));
+    }
+
+    // Executa a consulta pelo repositório e explica o primeiro comando gerado, com os mesmos valores como literais
+    private String explicar(Consulta consulta) {
+        entityManager.clear();
+        contadorConsultas.iniciarCaptura();
+        List<String> comandos;
+        try {
+            consulta.chamada().run();
+        } finally {
+            comandos = contadorConsultas.finalizarCaptura();
+            entityManager.clear();
+        }
+        assertThat(comandos).as("SQL de %s", consulta.nome()).isNotEmpty();
+
+        String sql = comLiterais(comandos.getFirst(), consulta.parametros(), consulta.nome());
+        StringJoiner linhas = new StringJoiner(System.lineSeparator());
+        jdbcTemplate.query("EXPLAIN " + sql, (RowCallbackHandler) rs -> linhas.add(rs.getString(1)));
+        return linhas.toString();
+    }
+
+    // Troca cada ? pelo valor correspondente; literais sem tipo são convertidos pelo PostgreSQL conforme a coluna
+    private static String comLiterais(String sql, List<Object> parametros, String nome) {
+        Matcher matcher = PARAMETRO.matcher(sql);
+        StringBuilder resultado = new StringBuilder();
+        int indice = 0;
+        while (matcher.find()) {
+            assertThat(indice).as("Parâmetros de %s em %s", nome, sql).isLessThan(parametros.size());
+            Object valor = parametros.get(indice++);
+            String literal = valor instanceof Number ? valor.toString() : "'" + valor.toString().replace("'", "''") + "'";
+            matcher.appendReplacement(resultado, Matcher.quoteReplacement(literal));
+        }
+        matcher.appendTail(resultado);
+        assertThat(indice).as("Parâmetros de %s em %s", nome, sql).isEqualTo(parametros.size());
+        return resultado.toString();
+    }
+
+    // tabelas: as filtradas pelo predicado; as demais do plano entram por junção e dependem do volume
+    private record Consulta(String nome, List<String> tabelas, Runnable chamada, List<Object> parametros) {
+
+        Consulta(String nome, String tabela, Runnable chamada, Object... parametros) {
+            this(nome, List.of(tabela), chamada, List.of(parametros));
+        }
+    }
+
+    private record Massa(long mesaId, long pedidoId, long itemId, long produtoId, long categoriaId) {
+    }
+}
@@ -0,0 +1,145 @@
+package com.synclink.infrastructure.config;
+
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.ManagementWebSecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityFilterAutoConfiguration;
+import org.springframework.boot.autoconfigure.security.servlet.UserDetailsServiceAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.net.ServerSocket;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Duas instâncias em modo relay, ligadas a um broker STOMP embutido (Artemis):
+ * uma mensagem publicada na instância A chega a um cliente conectado na instância B.
+ */
+class WebSocketRelayIntegrationTest {
+
+    private static EmbeddedActiveMQ broker;
+    private static int brokerPort;
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = {
+            DataSourceAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            FlywayAutoConfiguration.class,
+            SecurityAutoConfiguration.class,
+            SecurityFilterAutoConfiguration.class,
+            UserDetailsServiceAutoConfiguration.class,
+            ManagementWebSecurityAutoConfiguration.class
+    })
+    @Import(WebSocketConfig.class)
+    static class Node {
+    }
+
+    @BeforeAll
+    static void iniciar() throws Exception {
+        brokerPort = portaLivre();
+        broker = new EmbeddedActiveMQ();
+        broker.setConfiguration(new ConfigurationImpl()
+                .setPersistenceEnabled(false)
+                .setSecurityEnabled(false)
+                .addAcceptorConfiguration("stomp",
+                        "tcp://127.0.0.1:" + brokerPort + "?protocols=STOMP;anycastPrefix=/queue/;multicastPrefix=/topic/"));
+        broker.start();
+
+        nodeA = iniciarNode();
+        nodeB = iniciarNode();
+    }
+
+    @AfterAll
+    static void encerrar() throws Exception {
+        if (nodeA != null) nodeA.close();
+        if (nodeB != null) nodeB.close();
+        if (broker != null) broker.stop();
+    }
+
+    @Test
+    void mensagemPublicadaEmUmNodeChegaAoClienteDoOutro() throws Exception {
+        BlockingQueue<Map<?, ?>> recebidas = new LinkedBlockingQueue<>();
+
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        client.setMessageConverter(new MappingJackson2MessageConverter());
+        StompSession session = client
+                .connectAsync("ws://localhost:" + porta(nodeB) + "/sync-link/ws", new StompSessionHandlerAdapter() {
+                })
+                .get(10, TimeUnit.SECONDS);
+
+        session.subscribe("/topic/pedidos", new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return Map.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                recebidas.add((Map<?, ?>) payload);
+            }
+        });
+
+        // A assinatura chega ao broker de forma assíncrona: publica até o cliente receber
+        SimpMessagingTemplate template = nodeA.getBean(SimpMessagingTemplate.class);
+        Map<?, ?> recebida = null;
+        for (int tentativa = 0; tentativa < 50 && recebida == null; tentativa++) {
+            template.convertAndSend("/topic/pedidos", Map.of("tipo", "PEDIDO_CRIADO"));
+            recebida = recebidas.poll(200, TimeUnit.MILLISECONDS);
+        }
+
+        assertThat(recebida).isNotNull();
+        assertThat(recebida.get("tipo")).isEqualTo("PEDIDO_CRIADO");
+
+        session.disconnect();
+        client.stop();
+    }
+
+    // Argumentos de linha de comando: precisam prevalecer sobre o application.yaml (modo: simple)
+    private static ConfigurableApplicationContext iniciarNode() {
+        return new SpringApplicationBuilder(Node.class)
+                .run(
+                        "--server.port=0",
+                        "--management.server.port=-1",
+                        "--spring.flyway.enabled=false",
+                        "--sync.websocket.broker.modo=relay",
+                        "--sync.websocket.broker.relay-host=127.0.0.1",
+                        "--sync.websocket.broker.relay-port=" + brokerPort);
+    }
+
+    private static int porta(ConfigurableApplicationContext context) {
+        return ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    private static int portaLivre() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
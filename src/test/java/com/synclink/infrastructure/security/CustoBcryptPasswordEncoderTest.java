@@ -0,0 +1,29 @@
+package com.synclink.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * O hash é refeito quando o custo gravado difere do configurado, nos dois sentidos:
+ * subir o custo endurece as senhas antigas, baixá-lo alivia os próximos logins.
+ */
+class CustoBcryptPasswordEncoderTest {
+
+    @Test
+    void refazHashQuandoOCustoDifere() {
+        CustoBcryptPasswordEncoder encoder = new CustoBcryptPasswordEncoder(5);
+
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("senha"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("senha"))).isTrue();
+        assertThat(encoder.upgradeEncoding(encoder.encode("senha"))).isFalse();
+    }
+
+    @Test
+    void senhaComCustoAntigoContinuaValida() {
+        String antiga = new BCryptPasswordEncoder(6).encode("senha");
+
+        assertThat(new CustoBcryptPasswordEncoder(4).matches("senha", antiga)).isTrue();
+    }
+}
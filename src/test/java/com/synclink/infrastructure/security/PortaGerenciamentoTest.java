@@ -0,0 +1,72 @@
+package com.synclink.infrastructure.security;
+
+import com.synclink.IntegracaoPostgres;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * O actuator só responde na porta de gerenciamento: lá o Prometheus coleta sem JWT e os demais
+ * endpoints exigem ADMIN/GERENTE; a porta pública da API não expõe /actuator.
+ */
+@AutoConfigureObservability
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class PortaGerenciamentoTest extends IntegracaoPostgres {
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int portaApi;
+
+    @LocalManagementPort
+    private int portaGerenciamento;
+
+    // management.server.port=0 com server.port=0 cairia na mesma porta: reserva uma livre
+    @DynamicPropertySource
+    static void portaDeGerenciamento(DynamicPropertyRegistry registry) {
+        registry.add("management.server.port", PortaGerenciamentoTest::portaLivre);
+    }
+
+    @Test
+    void prometheusSoNaPortaDeGerenciamento() throws Exception {
+        assertThat(status("http://127.0.0.1:" + portaGerenciamento + "/actuator/prometheus")).isEqualTo(200);
+        assertThat(status("http://127.0.0.1:" + portaApi + "/sync-link/actuator/prometheus")).isNotEqualTo(200);
+    }
+
+    @Test
+    void demaisEndpointsExigemAutenticacao() throws Exception {
+        assertThat(status("http://127.0.0.1:" + portaGerenciamento + "/actuator/consultaslentas")).isEqualTo(403);
+        assertThat(status("http://127.0.0.1:" + portaGerenciamento + "/actuator/presenca")).isEqualTo(403);
+    }
+
+    // ============================================================
+    // 🔹 MÉTODOS AUXILIARES
+    // ============================================================
+
+    private int status(String url) throws Exception {
+        return http.send(HttpRequest.newBuilder(URI.create(url)).build(), HttpResponse.BodyHandlers.discarding())
+                .statusCode();
+    }
+
+    private static int portaLivre() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
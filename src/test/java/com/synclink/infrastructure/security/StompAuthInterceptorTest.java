@@ -0,0 +1,92 @@
+package com.synclink.infrastructure.security;
+
+import com.synclink.infrastructure.websocket.UsuarioWebSocket;
+import com.synclink.model.enums.PerfilUsuario;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Assinaturas com curinga não podem contornar a tabela de tópicos restritos:
+ * /topic/* casaria com /topic/caixa no broker simples, /topic/# com tudo no relay.
+ * SEND direto a um destino do broker também é recusado: seria repassado aos assinantes como evento legítimo.
+ */
+class StompAuthInterceptorTest {
+
+    private final StompAuthInterceptor interceptor =
+            new StompAuthInterceptor(mock(JwtService.class), mock(PrincipalCache.class));
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/topic/*", "/topic/**", "/topic/caix?", "/topic/{nome}", "/topic/#", "/topic/perfil.*.caixa"})
+    void assinaturaComCuringaENegada(String destino) {
+        UsuarioWebSocket garcom = new UsuarioWebSocket("garcom@synclink.com", 1L, PerfilUsuario.GARCOM);
+
+        assertThatThrownBy(() -> interceptor.preSend(assinatura(garcom, destino), null))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void curingaENegadoInclusiveParaAdmin() {
+        UsuarioWebSocket admin = new UsuarioWebSocket("admin@synclink.com", 2L, PerfilUsuario.ADMIN);
+
+        assertThatThrownBy(() -> interceptor.preSend(assinatura(admin, "/topic/*"), null))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void topicoRestritoSegueATabelaDePerfis() {
+        UsuarioWebSocket garcom = new UsuarioWebSocket("garcom@synclink.com", 1L, PerfilUsuario.GARCOM);
+        UsuarioWebSocket caixa = new UsuarioWebSocket("caixa@synclink.com", 3L, PerfilUsuario.CAIXA);
+
+        assertThatThrownBy(() -> interceptor.preSend(assinatura(garcom, "/topic/caixa"), null))
+                .isInstanceOf(AccessDeniedException.class);
+        assertThat(interceptor.preSend(assinatura(caixa, "/topic/caixa"), null)).isNotNull();
+        assertThat(interceptor.preSend(assinatura(garcom, "/topic/mesas"), null)).isNotNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/topic/caixa", "/topic/pedidos", "/topic/cozinha", "/queue/notificacoes", "/user/1/queue/x"})
+    void sendDiretoAoBrokerENegado(String destino) {
+        UsuarioWebSocket garcom = new UsuarioWebSocket("garcom@synclink.com", 1L, PerfilUsuario.GARCOM);
+
+        assertThatThrownBy(() -> interceptor.preSend(frame(StompCommand.SEND, garcom, destino), null))
+                .isInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void sendParaDestinoDaAplicacaoEPermitido() {
+        UsuarioWebSocket garcom = new UsuarioWebSocket("garcom@synclink.com", 1L, PerfilUsuario.GARCOM);
+
+        assertThat(interceptor.preSend(frame(StompCommand.SEND, garcom, "/app/pedidos.acoes"), null)).isNotNull();
+    }
+
+    // ============================================================
+    // 🔹 MÉTODOS AUXILIARES
+    // ============================================================
+
+    // Cabeçalhos mutáveis: é assim que o canal de entrada entrega o frame e o interceptor recupera o accessor
+    private static Message<byte[]> assinatura(UsuarioWebSocket usuario, String destino) {
+        return frame(StompCommand.SUBSCRIBE, usuario, destino);
+    }
+
+    private static Message<byte[]> frame(StompCommand comando, UsuarioWebSocket usuario, String destino) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(comando);
+        accessor.setSessionId("sessao");
+        if (comando == StompCommand.SUBSCRIBE) {
+            accessor.setSubscriptionId("sub-0");
+        }
+        accessor.setDestination(destino);
+        accessor.setUser(usuario);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,186 @@
+package com.synclink.infrastructure.websocket;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 500 sessões saudáveis e 20 travadas recebendo o mesmo fluxo: as saudáveis recebem tudo enquanto
+ * as travadas seguem presas, as travadas perdem as mensagens mais antigas e acabam desconectadas.
+ * Só o comportamento é verificado aqui; a latência (p99) fica no SessaoContrapressaoBenchmark.
+ */
+class SessaoComContrapressaoTest {
+
+    private static final int SAUDAVEIS = 500;
+    private static final int TRAVADAS = 20;
+    private static final int RODADAS = 40;
+    // Folga para montar as travadas e encher as filas antes de elas serem consideradas lentas
+    private static final long TEMPO_LIMITE_MS = 1000;
+    private static final int BUFFER_KB = 4;
+    private static final TextMessage FRAME =
+            new TextMessage("MESSAGE\ndestination:/topic/pedidos\n\n" + "x".repeat(200) + "\0");
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ContrapressaoWebSocket politica =
+            new ContrapressaoWebSocket(meterRegistry, TEMPO_LIMITE_MS, BUFFER_KB, List.of("/topic/mesas"));
+
+    // Registro separado: os descartes das travadas são exatos, os das saudáveis dependem do escalonamento
+    private final SimpleMeterRegistry registroTravadas = new SimpleMeterRegistry();
+    private final ContrapressaoWebSocket politicaTravadas =
+            new ContrapressaoWebSocket(registroTravadas, TEMPO_LIMITE_MS, BUFFER_KB, List.of("/topic/mesas"));
+
+    @AfterEach
+    void encerrar() {
+        politica.close();
+        politicaTravadas.close();
+    }
+
+    @Test
+    void sessoesTravadasNaoBloqueiamAsSaudaveis() throws Exception {
+        List<WebSocketSession> saudaveis = new ArrayList<>();
+        List<SessaoComContrapressao> sessoesSaudaveis = new ArrayList<>();
+        for (int i = 0; i < SAUDAVEIS; i++) {
+            WebSocketSession saudavel = sessaoAberta("s" + i);
+            saudaveis.add(saudavel);
+            sessoesSaudaveis.add(new SessaoComContrapressao(saudavel, politica, executorVirtual()));
+        }
+
+        // Sessões criadas antes de prender as travadas: o tempo limite começa a contar no primeiro envio
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch travadasOcupadas = new CountDownLatch(TRAVADAS);
+        List<WebSocketSession> travadas = new ArrayList<>();
+        List<SessaoComContrapressao> sessoesTravadas = new ArrayList<>();
+        for (int i = 0; i < TRAVADAS; i++) {
+            WebSocketSession travada = sessaoAberta("t" + i);
+            doAnswer(inv -> {
+                travadasOcupadas.countDown();
+                liberar.await();
+                return null;
+            }).when(travada).sendMessage(any());
+            travadas.add(travada);
+            SessaoComContrapressao sessao = new SessaoComContrapressao(travada, politicaTravadas, executorVirtual());
+            sessao.sendMessage(FRAME);
+            sessoesTravadas.add(sessao);
+        }
+        // Cada travada está presa no primeiro envio; as demais mensagens só podem se acumular na fila
+        assertThat(travadasOcupadas.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (int rodada = 1; rodada < RODADAS; rodada++) {
+            for (SessaoComContrapressao sessao : sessoesTravadas) {
+                sessao.sendMessage(FRAME);
+            }
+        }
+        TextMessage ultima = new TextMessage("MESSAGE\ndestination:/topic/pedidos\n\nultima\0");
+        for (SessaoComContrapressao sessao : sessoesSaudaveis) {
+            for (int rodada = 1; rodada < RODADAS; rodada++) {
+                sessao.sendMessage(FRAME);
+            }
+            sessao.sendMessage(ultima);
+        }
+
+        // Com as travadas ainda presas, toda saudável recebe a última mensagem e nenhuma é derrubada
+        for (WebSocketSession saudavel : saudaveis) {
+            verify(saudavel, timeout(10_000)).sendMessage(ultima);
+            verify(saudavel, never()).close(any());
+        }
+        assertThat(liberar.getCount()).isEqualTo(1);
+        assertThat(meterRegistry.counter("sync.websocket.sessoes.lentas").count()).isZero();
+
+        // Travadas: a fila guarda o que cabe no buffer, o resto das rodadas é descartado
+        int cabemNaFila = BUFFER_KB * 1024 / FRAME.getPayloadLength();
+        assertThat(registroTravadas.counter("sync.websocket.mensagens.descartadas", "motivo", "buffer").count())
+                .isEqualTo(TRAVADAS * (RODADAS - 1 - cabemNaFila));
+
+        // Passado o tempo limite, o próximo envio derruba as sessões travadas
+        Thread.sleep(TEMPO_LIMITE_MS + 50);
+        for (SessaoComContrapressao sessao : sessoesTravadas) {
+            sessao.sendMessage(FRAME);
+        }
+        for (WebSocketSession travada : travadas) {
+            verify(travada).close(CloseStatus.SESSION_NOT_RELIABLE);
+        }
+        liberar.countDown();
+
+        assertThat(registroTravadas.counter("sync.websocket.sessoes.lentas").count()).isEqualTo(TRAVADAS);
+    }
+
+    @Test
+    void topicoDeEstadoMantemSoAMensagemMaisRecente() throws Exception {
+        WebSocketSession delegate = sessaoAberta("estado");
+        CountDownLatch primeiroEnvio = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        List<String> recebidas = new ArrayList<>();
+        doAnswer(inv -> {
+            primeiroEnvio.countDown();
+            liberar.await();
+            synchronized (recebidas) {
+                recebidas.add(((TextMessage) inv.getArgument(0)).getPayload());
+            }
+            return null;
+        }).when(delegate).sendMessage(any());
+
+        SessaoComContrapressao sessao = new SessaoComContrapressao(delegate, politica, executorVirtual());
+        sessao.sendMessage(estadoMesa(1, "v0"));
+        assertThat(primeiroEnvio.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Enquanto o primeiro envio está preso, três atualizações da mesa 1 se acumulam,
+        // intercaladas com uma da mesa 2 e um lote sem cabeçalho de estado no mesmo tópico
+        sessao.sendMessage(estadoMesa(1, "v1"));
+        sessao.sendMessage(estadoMesa(2, "outra"));
+        sessao.sendMessage(estadoMesa(1, "v2"));
+        sessao.sendMessage(new TextMessage("MESSAGE\ndestination:/topic/mesas\n\nlote\0"));
+        sessao.sendMessage(estadoMesa(1, "v3"));
+        liberar.countDown();
+
+        verify(delegate, timeout(5000).times(4)).sendMessage(any());
+        synchronized (recebidas) {
+            assertThat(recebidas).hasSize(4);
+            assertThat(recebidas.get(1)).contains("outra");
+            assertThat(recebidas.get(2)).contains("lote");
+            assertThat(recebidas.get(3)).contains("v3");
+        }
+        assertThat(meterRegistry.counter("sync.websocket.mensagens.descartadas", "motivo", "substituida").count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void extraiCabecalhosDoFrameStomp() {
+        TextMessage frame = new TextMessage("MESSAGE\ndestination:/topic/mesas\nestado:MESA_ATUALIZADA:mesa:1\n\n{}\0");
+        assertThat(SessaoComContrapressao.cabecalhoStomp(frame, "destination")).isEqualTo("/topic/mesas");
+        assertThat(SessaoComContrapressao.cabecalhoStomp(frame, "estado")).isEqualTo("MESA_ATUALIZADA:mesa:1");
+        assertThat(SessaoComContrapressao.cabecalhoStomp(new TextMessage("\n"), "destination")).isNull();
+    }
+
+    // ============================================================
+    // 🔹 MÉTODOS AUXILIARES
+    // ============================================================
+
+    private static WebSocketSession sessaoAberta(String id) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+
+    // Uma thread virtual por envio, como o executor do decorador
+    private static Executor executorVirtual() {
+        return Thread.ofVirtual()::start;
+    }
+
+    private static TextMessage estadoMesa(long mesaId, String corpo) {
+        return new TextMessage("MESSAGE\ndestination:/topic/mesas\nestado:MESA_ATUALIZADA:mesa:" + mesaId + "\n\n" + corpo + "\0");
+    }
+}